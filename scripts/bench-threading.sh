@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compares the 20-worker Undertow pool with virtual-thread mode on the product list and detail endpoints.
+#
+#   ./gradlew bootJar && scripts/bench-threading.sh [productId]
+#
+# Needs wrk (https://github.com/wg/wrk) and a database reachable with the usual DB_* variables.
+# Tune with CONNECTIONS (default 200), DURATION (default 30s) and JAR.
+set -euo pipefail
+
+PRODUCT_ID="${1:-1}"
+CONNECTIONS="${CONNECTIONS:-200}"
+DURATION="${DURATION:-30s}"
+JAR="${JAR:-$(ls build/libs/*-SNAPSHOT.jar | grep -v plain | head -n 1)}"
+BASE_URL="http://localhost:8080"
+
+run_mode() {
+  local virtual="$1"
+  echo "=== VIRTUAL_THREADS=${virtual} ==="
+
+  VIRTUAL_THREADS="${virtual}" java -jar "${JAR}" \
+    --logging.level.root=WARN --logging.level.org.hibernate.SQL=WARN \
+    --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+    --spring.jpa.properties.hibernate.show_sql=false > "build/bench-${virtual}.log" 2>&1 &
+  local pid=$!
+  trap 'kill ${pid} 2>/dev/null || true' EXIT
+
+  until curl -sf "${BASE_URL}/api/health" > /dev/null; do
+    sleep 1
+  done
+
+  # Warm up the JIT and the in-memory indexes before measuring
+  wrk -t4 -c50 -d10s "${BASE_URL}/api/products?page=0&size=20" > /dev/null
+
+  echo "--- list: GET /api/products?page=0&size=20"
+  wrk -t8 -c"${CONNECTIONS}" -d"${DURATION}" --latency "${BASE_URL}/api/products?page=0&size=20"
+  echo "--- detail: GET /api/products/${PRODUCT_ID}"
+  wrk -t8 -c"${CONNECTIONS}" -d"${DURATION}" --latency "${BASE_URL}/api/products/${PRODUCT_ID}"
+
+  kill "${pid}"
+  wait "${pid}" 2>/dev/null || true
+  trap - EXIT
+}
+
+run_mode false
+run_mode true
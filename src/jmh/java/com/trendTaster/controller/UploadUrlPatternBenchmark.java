@@ -0,0 +1,38 @@
+package com.trendTaster.controller;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.regex.Pattern;
+
+// Image URL check in UploadController: Pattern.matches compiles the expression on every call;
+// the precompiled variant shows what caching the Pattern would save
+@State(Scope.Benchmark)
+public class UploadUrlPatternBenchmark {
+
+    @Param({
+            "https://abc123.supabase.co/storage/v1/object/public/product-images/42-0.webp",
+            "https://example.com/images/not-from-supabase.png"
+    })
+    private String url;
+
+    private Pattern compiled;
+
+    @Setup
+    public void setUp() {
+        compiled = Pattern.compile(UploadController.SUPABASE_URL_PATTERN);
+    }
+
+    @Benchmark
+    public boolean patternMatches() {
+        return Pattern.matches(UploadController.SUPABASE_URL_PATTERN, url);
+    }
+
+    @Benchmark
+    public boolean precompiledMatches() {
+        return compiled.matcher(url).matches();
+    }
+}
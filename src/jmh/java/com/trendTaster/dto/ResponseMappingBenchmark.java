@@ -0,0 +1,107 @@
+package com.trendTaster.dto;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.ProductImage;
+import com.trendTaster.domain.Store;
+import com.trendTaster.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.time.LocalDate;
+
+// Entity -> response DTO mapping, alone and followed by Jackson serialization as the controllers do it
+@State(Scope.Benchmark)
+public class ResponseMappingBenchmark {
+
+    private Product product;
+    private Store store;
+    private ProductDto.Response productResponse;
+    private StoreDto.Response storeResponse;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        User user = User.builder()
+                .id(1L)
+                .username("trendtaster")
+                .email("user@example.com")
+                .password("unused")
+                .build();
+
+        product = Product.builder()
+                .id(42L)
+                .name("불닭 치즈 삼각김밥")
+                .store("GS25")
+                .price(1800)
+                .category("삼각김밥")
+                .releaseDate(LocalDate.now().minusDays(3))
+                .description("매콤한 불닭 소스와 모짜렐라 치즈를 넣은 신상 삼각김밥")
+                .ingredients("쌀, 닭고기, 불닭소스, 모짜렐라치즈, 김")
+                .barcode("8801234567890")
+                .location("전국 GS25")
+                .status(Product.ProductStatus.APPROVED)
+                .submittedBy(user)
+                .viewsCount(1234)
+                .build();
+        for (int i = 0; i < 5; i++) {
+            product.addImage(ProductImage.builder()
+                    .id(100L + i)
+                    .imageUrl("https://abc123.supabase.co/storage/v1/object/public/product-images/42-" + i + ".webp")
+                    .displayOrder(i)
+                    .build());
+        }
+
+        store = Store.builder()
+                .id(7L)
+                .name("GS25")
+                .description("GS리테일 편의점")
+                .website("https://gs25.gsretail.com")
+                .status(Store.StoreStatus.APPROVED)
+                .submittedBy(user)
+                .reviewedBy(user)
+                .build();
+
+        productResponse = ProductDto.Response.from(product);
+        storeResponse = StoreDto.Response.from(store);
+        // Mirrors the Spring Boot defaults that matter for these DTOs
+        objectMapper = JsonMapper.builder()
+                .findAndAddModules()
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .build();
+    }
+
+    @Benchmark
+    public ProductDto.Response productFrom() {
+        return ProductDto.Response.from(product);
+    }
+
+    @Benchmark
+    public byte[] productSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(productResponse);
+    }
+
+    @Benchmark
+    public byte[] productFromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(ProductDto.Response.from(product));
+    }
+
+    @Benchmark
+    public StoreDto.Response storeFrom() {
+        return StoreDto.Response.from(store);
+    }
+
+    @Benchmark
+    public byte[] storeSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(storeResponse);
+    }
+
+    @Benchmark
+    public byte[] storeFromAndSerialize() throws Exception {
+        return objectMapper.writeValueAsBytes(StoreDto.Response.from(store));
+    }
+}
@@ -0,0 +1,45 @@
+package com.trendTaster.security;
+
+import com.trendTaster.domain.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.test.util.ReflectionTestUtils;
+
+// Token checks done by JwtAuthenticationFilter on every authenticated request
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private JwtTokenProvider tokenProvider;
+    private VerifiedTokenCache verifiedTokenCache;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        tokenProvider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(tokenProvider, "secretString",
+                "benchmark-secret-key-min-256-bits-for-hs256-algorithm-0123456789");
+        ReflectionTestUtils.setField(tokenProvider, "expiration", 86_400_000L);
+        ReflectionTestUtils.setField(tokenProvider, "refreshExpiration", 1_209_600_000L);
+        tokenProvider.init();
+        verifiedTokenCache = new VerifiedTokenCache(tokenProvider, 10_000);
+        token = tokenProvider.generateToken(User.builder()
+                .id(1L)
+                .username("user")
+                .email("user@example.com")
+                .build(), "00000000-0000-0000-0000-000000000000");
+    }
+
+    // First sight of a token: one parse and signature check
+    @Benchmark
+    public Long verify() {
+        return tokenProvider.verify(token).map(VerifiedToken::userId).orElse(null);
+    }
+
+    // Repeat requests with the same bearer token: digest lookup only
+    @Benchmark
+    public Long verifyCached() {
+        return verifiedTokenCache.verify(token).map(VerifiedToken::userId).orElse(null);
+    }
+}
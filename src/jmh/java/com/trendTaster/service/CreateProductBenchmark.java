@@ -0,0 +1,85 @@
+package com.trendTaster.service;
+
+import com.trendTaster.TrendTasterBackendApplication;
+import com.trendTaster.domain.Store;
+import com.trendTaster.domain.User;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.repository.StoreRepository;
+import com.trendTaster.repository.UserRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+// One product submission with 5 images through the real service and a throwaway Postgres (needs Docker).
+// With pooled sequence ids this is the store check plus one product insert and one image batch per call,
+// and a sequence round trip only every 50 ids; check out the IDENTITY baseline to compare.
+@State(Scope.Benchmark)
+public class CreateProductBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private ProductService productService;
+    private User user;
+    private ProductDto.CreateRequest request;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(TrendTasterBackendApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:tc:postgresql:16-alpine:///trendtaster",
+                        "spring.datasource.driver-class-name=org.testcontainers.jdbc.ContainerDatabaseDriver",
+                        "spring.datasource.username=test",
+                        "spring.datasource.password=test",
+                        "spring.jpa.show-sql=false",
+                        "spring.jpa.properties.hibernate.show_sql=false",
+                        "logging.level.root=WARN",
+                        "logging.level.org.hibernate.SQL=WARN",
+                        "logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN",
+                        "logging.level.org.springframework.security=WARN")
+                .run();
+        productService = context.getBean(ProductService.class);
+
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = context.getBean(UserRepository.class).save(User.builder()
+                .username("bench-" + suffix)
+                .email("bench-" + suffix + "@example.com")
+                .password("not-a-real-hash")
+                .build());
+        context.getBean(StoreRepository.class).save(Store.builder()
+                .name("GS25")
+                .status(Store.StoreStatus.APPROVED)
+                .submittedBy(user)
+                .build());
+
+        request = new ProductDto.CreateRequest(
+                "불닭 치즈 삼각김밥",
+                "GS25",
+                1800,
+                "삼각김밥",
+                "2024-05-01",
+                "매콤한 불닭 소스와 모짜렐라 치즈를 넣은 신상 삼각김밥",
+                "쌀, 닭고기, 불닭소스, 모짜렐라치즈, 김",
+                null,
+                "전국 GS25",
+                IntStream.range(0, 5)
+                        .mapToObj(i -> "https://abc123.supabase.co/storage/v1/object/public/product-images/bench-" + i + ".webp")
+                        .toList());
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public ProductDto.Response createProduct() {
+        return productService.createProduct(request, user);
+    }
+}
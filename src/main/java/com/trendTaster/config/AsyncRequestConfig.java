@@ -0,0 +1,23 @@
+package com.trendTaster.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+// The admin NDJSON export is the only async handler; without an explicit timeout it inherits the
+// container default (30 s on Undertow), which cuts a large catalog off mid-stream.
+@Configuration
+public class AsyncRequestConfig implements WebMvcConfigurer {
+
+    private final long exportTimeoutMillis;
+
+    public AsyncRequestConfig(@Value("${product.export.timeout-ms:1800000}") long exportTimeoutMillis) {
+        this.exportTimeoutMillis = exportTimeoutMillis;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        configurer.setDefaultTimeout(exportTimeoutMillis);
+    }
+}
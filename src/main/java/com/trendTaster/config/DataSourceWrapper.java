@@ -0,0 +1,39 @@
+package com.trendTaster.config;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.core.Ordered;
+
+import javax.sql.DataSource;
+import java.util.function.UnaryOperator;
+
+// Post-processor wrapping the "dataSource" bean in one extra layer. Several layers do this, so each
+// declares its place: lower orders are applied first and end up closer to the connection pool. @Bean
+// methods must declare this type rather than BeanPostProcessor, or the order is not seen in time.
+public class DataSourceWrapper implements BeanPostProcessor, Ordered {
+
+    // Statement metering sits directly on the pool, so every statement is counted whatever wraps it
+    public static final int METERING_ORDER = 0;
+    // The bulkhead is outermost, so excess threads park before they reach any other layer
+    public static final int BULKHEAD_ORDER = 100;
+
+    private final int order;
+    private final UnaryOperator<DataSource> wrapper;
+
+    public DataSourceWrapper(int order, UnaryOperator<DataSource> wrapper) {
+        this.order = order;
+        this.wrapper = wrapper;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof DataSource dataSource && beanName.equals("dataSource")) {
+            return wrapper.apply(dataSource);
+        }
+        return bean;
+    }
+
+    @Override
+    public int getOrder() {
+        return order;
+    }
+}
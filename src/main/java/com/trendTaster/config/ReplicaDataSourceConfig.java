@@ -0,0 +1,64 @@
+package com.trendTaster.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+// Replaces the auto-configured DataSource with primary/replica routing when datasource.routing.enabled
+// is set (see application-replica.yml). spring.datasource.* keeps describing the primary.
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(ReplicaDataSourceProperties.class)
+public class ReplicaDataSourceConfig {
+
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource routingDataSource(HikariDataSource primaryDataSource,
+                                                     DataSourceProperties primaryProperties,
+                                                     ReplicaDataSourceProperties routing) {
+        if (routing.getReplicas().isEmpty()) {
+            throw new IllegalStateException("datasource.routing.enabled requires at least one datasource.routing.replicas entry");
+        }
+
+        List<HikariDataSource> replicaPools = new ArrayList<>();
+        for (int i = 0; i < routing.getReplicas().size(); i++) {
+            ReplicaDataSourceProperties.Replica replica = routing.getReplicas().get(i);
+            // Pools start lazily, so an unreachable replica does not block startup
+            HikariDataSource pool = new HikariDataSource();
+            pool.setPoolName("replica-" + i);
+            pool.setJdbcUrl(replica.getUrl());
+            pool.setUsername(replica.getUsername() != null ? replica.getUsername() : primaryProperties.getUsername());
+            pool.setPassword(replica.getPassword() != null ? replica.getPassword() : primaryProperties.getPassword());
+            pool.setDriverClassName(primaryProperties.getDriverClassName());
+            pool.setMaximumPoolSize(routing.getReplicaPoolSize());
+            pool.setConnectionTimeout(3000);
+            pool.setReadOnly(true);
+            replicaPools.add(pool);
+        }
+        return new ReplicaRoutingDataSource(primaryDataSource, replicaPools,
+                routing.getReadYourWritesMs(), routing.getMaxReplicationLagMs());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routingDataSource) {
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+}
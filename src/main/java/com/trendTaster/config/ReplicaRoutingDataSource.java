@@ -0,0 +1,177 @@
+package com.trendTaster.config;
+
+import com.trendTaster.domain.User;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+// Sends read-only transactions to a healthy replica, round-robin, and everything else to the primary.
+// A user whose write committed within the read-your-writes window keeps reading from the primary.
+// Loads that fill long-lived caches right after a commit ask for the primary through readFromPrimary,
+// since a lagging replica would hand them the pre-commit rows to keep.
+// Must sit behind a LazyConnectionDataSourceProxy: the transaction's read-only flag is only bound
+// after the transaction manager has asked for a connection.
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource implements DisposableBean {
+
+    private static final String PRIMARY = "primary";
+    private static final ThreadLocal<Boolean> PRIMARY_READS = new ThreadLocal<>();
+
+    // Replay lag in seconds; 0 when the replica has applied everything it received (an idle primary
+    // produces no new transactions, so the last replay timestamp alone would look stale) or is not a standby
+    private static final String LAG_QUERY = "SELECT CASE WHEN NOT pg_is_in_recovery() "
+            + "OR pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 "
+            + "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final List<Replica> replicas;
+    private final long readYourWritesMillis;
+    private final long maxReplicationLagMillis;
+    private final Map<Long, Long> primaryReadsUntil = new ConcurrentHashMap<>();
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    ReplicaRoutingDataSource(DataSource primary, List<HikariDataSource> replicaPools,
+                             long readYourWritesMillis, long maxReplicationLagMillis) {
+        this.replicas = replicaPools.stream().map(Replica::new).toList();
+        this.readYourWritesMillis = readYourWritesMillis;
+        this.maxReplicationLagMillis = maxReplicationLagMillis;
+
+        Map<Object, Object> targets = new HashMap<>();
+        targets.put(PRIMARY, primary);
+        replicas.forEach(replica -> targets.put(replica.name, replica.pool));
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final HikariDataSource pool;
+        // Unhealthy until the first scheduled check passes, so startup never waits on a replica
+        private volatile boolean healthy;
+
+        Replica(HikariDataSource pool) {
+            this.name = pool.getPoolName();
+            this.pool = pool;
+        }
+    }
+
+    // Connections first used inside the action come from the primary; a no-op without routing
+    public static <T> T readFromPrimary(Supplier<T> action) {
+        boolean outermost = PRIMARY_READS.get() == null;
+        PRIMARY_READS.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            if (outermost) {
+                PRIMARY_READS.remove();
+            }
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (userId != null) {
+                recordWrite(userId);
+            }
+            return PRIMARY;
+        }
+        if (PRIMARY_READS.get() != null) {
+            return PRIMARY;
+        }
+
+        if (userId != null) {
+            Long until = primaryReadsUntil.get(userId);
+            if (until != null && until > System.currentTimeMillis()) {
+                return PRIMARY;
+            }
+        }
+
+        int count = replicas.size();
+        int start = Math.floorMod(nextReplica.getAndIncrement(), count);
+        for (int i = 0; i < count; i++) {
+            Replica replica = replicas.get((start + i) % count);
+            if (replica.healthy) {
+                return replica.name;
+            }
+        }
+        return PRIMARY;
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.routing.health-check-interval-ms:5000}")
+    public void checkReplicas() {
+        for (Replica replica : replicas) {
+            boolean healthy = isHealthy(replica);
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Replica {} is healthy, routing read-only transactions to it", replica.name);
+                } else {
+                    log.warn("Replica {} is unhealthy, routing its reads elsewhere", replica.name);
+                }
+            }
+            replica.healthy = healthy;
+        }
+
+        long now = System.currentTimeMillis();
+        primaryReadsUntil.values().removeIf(until -> until <= now);
+    }
+
+    @Override
+    public void destroy() {
+        replicas.forEach(replica -> replica.pool.close());
+    }
+
+    private boolean isHealthy(Replica replica) {
+        try (Connection connection = replica.pool.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery(LAG_QUERY)) {
+            resultSet.next();
+            double lagMillis = resultSet.getDouble(1) * 1000;
+            if (lagMillis > maxReplicationLagMillis) {
+                log.debug("Replica {} is {} ms behind", replica.name, (long) lagMillis);
+                return false;
+            }
+            return true;
+        } catch (SQLException e) {
+            log.debug("Replica {} check failed: {}", replica.name, e.getMessage());
+            return false;
+        }
+    }
+
+    // The window starts when the write commits; writes outside a transaction count immediately
+    private void recordWrite(Long userId) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    primaryReadsUntil.put(userId, System.currentTimeMillis() + readYourWritesMillis);
+                }
+            });
+        } else {
+            primaryReadsUntil.put(userId, System.currentTimeMillis() + readYourWritesMillis);
+        }
+    }
+
+    private static Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getPrincipal() instanceof User user ? user.getId() : null;
+    }
+}
@@ -0,0 +1,48 @@
+package com.trendTaster.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.web.embedded.undertow.UndertowDeploymentInfoCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.Executors;
+
+// Virtual-thread mode (spring.threads.virtual.enabled=true). Spring Boot does not switch Undertow over
+// by itself, so servlet requests are dispatched onto a virtual-thread-per-task executor here instead of
+// the fixed XNIO worker pool, and the DataSource is wrapped in a bulkhead sized for every pool it routes to.
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    @Bean
+    public UndertowDeploymentInfoCustomizer virtualThreadDispatchCustomizer() {
+        return deploymentInfo -> deploymentInfo.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+    }
+
+    // Static so the post-processor does not force this configuration to initialize early
+    @Bean
+    public static DataSourceWrapper dataSourceBulkhead(
+            Environment environment,
+            @Value("${datasource.bulkhead.acquire-timeout-ms:30000}") long acquireTimeoutMillis) {
+        int maxConcurrent = environment.getProperty("datasource.bulkhead.max-concurrent", Integer.class,
+                routedPoolCapacity(environment));
+        return new DataSourceWrapper(DataSourceWrapper.BULKHEAD_ORDER,
+                dataSource -> new BulkheadDataSource(dataSource, maxConcurrent, acquireTimeoutMillis));
+    }
+
+    // Connections "dataSource" can hand out: the primary pool, plus every replica pool when routing is on
+    private static int routedPoolCapacity(Environment environment) {
+        int capacity = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+        ReplicaDataSourceProperties routing = Binder.get(environment)
+                .bind("datasource.routing", ReplicaDataSourceProperties.class)
+                .orElseGet(ReplicaDataSourceProperties::new);
+        if (routing.isEnabled()) {
+            capacity += routing.getReplicas().size() * routing.getReplicaPoolSize();
+        }
+        return capacity;
+    }
+}
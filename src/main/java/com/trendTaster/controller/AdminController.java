@@ -5,11 +5,16 @@ import com.trendTaster.dto.AdminDto;
 import com.trendTaster.dto.AuthDto;
 import com.trendTaster.dto.ProductDto;
 import com.trendTaster.dto.StoreDto;
+import com.trendTaster.monitoring.QueryBudget;
 import com.trendTaster.repository.ProductRepository;
 import com.trendTaster.repository.StoreRepository;
 import com.trendTaster.repository.UserRepository;
+import com.trendTaster.security.TokenVersionRegistry;
+import com.trendTaster.service.ProductExportService;
 import com.trendTaster.service.ProductService;
 import com.trendTaster.service.StoreService;
+import com.trendTaster.service.importing.ImportFormat;
+import com.trendTaster.service.importing.ProductImportService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -23,10 +28,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.IOException;
+import java.io.InputStream;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -39,7 +49,10 @@ public class AdminController {
 
     private final ProductService productService;
     private final StoreService storeService;
+    private final ProductExportService productExportService;
+    private final ProductImportService productImportService;
     private final UserRepository userRepository;
+    private final TokenVersionRegistry tokenVersionRegistry;
     private final ProductRepository productRepository;
     private final StoreRepository storeRepository;
 
@@ -51,6 +64,7 @@ public class AdminController {
             @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
     })
     @GetMapping("/submissions")
+    @QueryBudget(statements = 4)
     public ResponseEntity<Page<ProductDto.Response>> getPendingSubmissions(
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(defaultValue = "0") int page,
             @Parameter(description = "페이지 크기") @RequestParam(defaultValue = "20") int size,
@@ -105,6 +119,51 @@ public class AdminController {
         return ResponseEntity.ok().build();
     }
 
+    @Operation(summary = "승인된 제품 전체 내보내기", description = "승인된 제품 전체를 NDJSON(한 줄에 제품 하나)으로 스트리밍합니다. (관리자 권한 필요)",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "내보내기 성공",
+                    content = @Content(mediaType = "application/x-ndjson", schema = @Schema(implementation = ProductDto.Response.class))),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
+    })
+    @GetMapping(value = "/products/export", produces = "application/x-ndjson")
+    public ResponseEntity<StreamingResponseBody> exportProducts(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        if (user == null || !user.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        StreamingResponseBody body = productExportService::exportApprovedProducts;
+        return ResponseEntity.ok()
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"products.ndjson\"")
+                .contentType(MediaType.parseMediaType("application/x-ndjson;charset=UTF-8"))
+                .body(body);
+    }
+
+    @Operation(summary = "제품 일괄 등록", description = "NDJSON(application/x-ndjson) 또는 CSV(text/csv) 본문의 제품을 일괄 등록합니다. "
+            + "CSV는 헤더 행에 name, store, price, category 등 필드명을 쓰고 imageUrls는 '|'로 구분합니다. "
+            + "등록된 제품은 승인 대기 상태가 되며, 행별 오류를 함께 반환합니다. (관리자 권한 필요)",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 완료 (행별 결과 포함)",
+                    content = @Content(schema = @Schema(implementation = AdminDto.ImportResult.class))),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 형식 또는 잘못된 CSV 헤더", content = @Content),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 필요", content = @Content)
+    })
+    @PostMapping(value = "/products/import", consumes = {"application/x-ndjson", "text/csv"})
+    public ResponseEntity<AdminDto.ImportResult> importProducts(
+            @Parameter(hidden = true) @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType,
+            @Parameter(hidden = true) InputStream body,
+            @Parameter(hidden = true) @AuthenticationPrincipal User user
+    ) throws IOException {
+        if (user == null || !user.isAdmin()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        AdminDto.ImportResult result = productImportService.importProducts(body, ImportFormat.fromContentType(contentType), user);
+        return ResponseEntity.ok(result);
+    }
+
     // Store Management Endpoints
 
     @Operation(summary = "대기 중인 매장/브랜드 목록 조회", description = "승인 대기 중인 매장/브랜드 목록을 조회합니다. (관리자 권한 필요)",
@@ -246,6 +305,8 @@ public class AdminController {
 
         targetUser.promoteToAdmin();
         userRepository.save(targetUser);
+        // Tokens carry the role; revoke the old ones so the change applies on the next request
+        tokenVersionRegistry.revoke(targetUser.getId());
 
         return ResponseEntity.ok(AuthDto.UserResponse.from(targetUser));
     }
@@ -271,6 +332,8 @@ public class AdminController {
 
         targetUser.demoteToUser();
         userRepository.save(targetUser);
+        // Tokens carry the role; revoke the old ones so the change applies on the next request
+        tokenVersionRegistry.revoke(targetUser.getId());
 
         return ResponseEntity.ok(AuthDto.UserResponse.from(targetUser));
     }
@@ -68,22 +68,55 @@ public class AuthController {
         if (user == null) {
             return ResponseEntity.status(401).build();
         }
-        AuthDto.UserResponse response = authService.getCurrentUser(user);
+        AuthDto.UserResponse response = authService.getCurrentUser(user.getId());
         return ResponseEntity.ok(response);
     }
 
-    @Operation(summary = "로그아웃", description = "로그아웃 (클라이언트에서 토큰 삭제 필요)")
+    @Operation(summary = "토큰 갱신", description = "리프레시 토큰으로 새 액세스 토큰과 리프레시 토큰을 발급받습니다. 사용한 리프레시 토큰은 더 이상 쓸 수 없습니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "갱신 성공",
+                    content = @Content(schema = @Schema(implementation = AuthDto.AuthResponse.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않거나 만료/로그아웃된 리프레시 토큰", content = @Content)
+    })
+    @PostMapping("/refresh")
+    public ResponseEntity<AuthDto.AuthResponse> refresh(@Valid @RequestBody AuthDto.RefreshRequest request) {
+        AuthDto.AuthResponse response = authService.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "로그아웃", description = "리프레시 토큰의 세션을 종료합니다. 같은 세션의 액세스 토큰도 즉시 거부됩니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "로그아웃 성공",
                     content = @Content(schema = @Schema(implementation = Map.class)))
     })
     @PostMapping("/logout")
-    public ResponseEntity<Map<String, String>> logout() {
-        // JWT는 stateless이므로 서버에서 할 작업 없음
-        // 클라이언트에서 토큰 삭제 처리
+    public ResponseEntity<Map<String, String>> logout(@RequestBody(required = false) AuthDto.RefreshRequest request) {
+        if (request != null && request.getRefreshToken() != null) {
+            authService.logout(request.getRefreshToken());
+        }
         Map<String, String> response = new java.util.HashMap<>();
         response.put("message", "로그아웃되었습니다. 클라이언트에서 토큰을 삭제해주세요.");
         response.put("status", "success");
         return ResponseEntity.ok(response);
     }
+
+    @Operation(summary = "모든 기기에서 로그아웃", description = "지금까지 발급된 모든 토큰을 무효화합니다.",
+            security = @SecurityRequirement(name = "Bearer Authentication"))
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "로그아웃 성공",
+                    content = @Content(schema = @Schema(implementation = Map.class))),
+            @ApiResponse(responseCode = "401", description = "인증 필요 (토큰 없음 또는 만료)", content = @Content)
+    })
+    @PostMapping("/logout-all")
+    public ResponseEntity<Map<String, String>> logoutAll(
+            @Parameter(hidden = true) @AuthenticationPrincipal User user) {
+        if (user == null) {
+            return ResponseEntity.status(401).build();
+        }
+        authService.logoutEverywhere(user.getId());
+        Map<String, String> response = new java.util.HashMap<>();
+        response.put("message", "모든 기기에서 로그아웃되었습니다. 다시 로그인해주세요.");
+        response.put("status", "success");
+        return ResponseEntity.ok(response);
+    }
 }
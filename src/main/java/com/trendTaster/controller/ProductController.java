@@ -1,7 +1,10 @@
 package com.trendTaster.controller;
 
 import com.trendTaster.domain.User;
+import com.trendTaster.dto.ContentVersion;
 import com.trendTaster.dto.ProductDto;
+import com.trendTaster.monitoring.QueryBudget;
+import com.trendTaster.service.ProductDetailCache;
 import com.trendTaster.service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -17,9 +20,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -35,43 +42,189 @@ public class ProductController {
     @Operation(summary = "제품 목록 조회", description = "필터링 조건에 따라 제품 목록을 페이징하여 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
-                    content = @Content(schema = @Schema(implementation = Page.class)))
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)", content = @Content)
     })
     @GetMapping
+    @QueryBudget(statements = 5)
     public ResponseEntity<Page<ProductDto.Response>> getProducts(
             @Parameter(description = "편의점/브랜드 필터 (복수 선택 가능)") @RequestParam(value = "stores", required = false) List<String> stores,
             @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(value = "categories", required = false) List<String> categories,
             @Parameter(description = "최소 가격") @RequestParam(value = "minPrice", required = false) Integer minPrice,
             @Parameter(description = "최대 가격") @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
             @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(value = "page", defaultValue = "0") int page,
-            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "20") int size
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "20") int size,
+            @Parameter(hidden = true) WebRequest webRequest
     ) {
+        ContentVersion version = productService.getCatalogVersion();
+        if (webRequest.checkNotModified(version.getTag(), version.getLastModified())) {
+            return null;
+        }
+
         Pageable pageable = PageRequest.of(page, size);
         Page<ProductDto.Response> products = productService.getProducts(stores, categories, minPrice, maxPrice, pageable);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(products);
+    }
+
+    @Operation(summary = "필터 항목별 제품 수 조회", description = "현재 필터 조건에서 매장/카테고리/가격대별 제품 수를 조회합니다. "
+            + "각 항목은 자기 항목을 제외한 나머지 필터만 적용해 집계됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ProductDto.Facets.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)", content = @Content)
+    })
+    @GetMapping("/facets")
+    public ResponseEntity<ProductDto.Facets> getFacets(
+            @Parameter(description = "편의점/브랜드 필터 (복수 선택 가능)") @RequestParam(value = "stores", required = false) List<String> stores,
+            @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(value = "categories", required = false) List<String> categories,
+            @Parameter(description = "최소 가격") @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @Parameter(hidden = true) WebRequest webRequest
+    ) {
+        // Facets change exactly when the listing does, so they share its validator
+        ContentVersion version = productService.getCatalogVersion();
+        if (webRequest.checkNotModified(version.getTag(), version.getLastModified())) {
+            return null;
+        }
+
+        ProductDto.Facets facets = productService.getFacets(stores, categories, minPrice, maxPrice);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(facets);
+    }
+
+    @Operation(summary = "제품 검색", description = "제품명, 설명, 원재료를 검색합니다. 매장/카테고리/가격 필터와 함께 사용할 수 있으며 관련도 순으로 정렬됩니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "검색 성공",
+                    content = @Content(schema = @Schema(implementation = Page.class))),
+            @ApiResponse(responseCode = "400", description = "검색어 누락", content = @Content),
+            @ApiResponse(responseCode = "503", description = "검색 색인 준비 중", content = @Content)
+    })
+    @GetMapping("/search")
+    @QueryBudget(statements = 3)
+    public ResponseEntity<Page<ProductDto.Response>> searchProducts(
+            @Parameter(description = "검색어") @RequestParam("q") String query,
+            @Parameter(description = "편의점/브랜드 필터 (복수 선택 가능)") @RequestParam(value = "stores", required = false) List<String> stores,
+            @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(value = "categories", required = false) List<String> categories,
+            @Parameter(description = "최소 가격") @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        return productService.searchProducts(query, stores, categories, minPrice, maxPrice, pageable)
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.status(503).build());
+    }
+
+    @Operation(summary = "제품 목록 슬라이스 조회", description = "전체 개수 없이 다음 페이지 존재 여부(hasNext)만 반환합니다. 무한 스크롤용으로 COUNT 쿼리를 생략합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = Slice.class)))
+    })
+    @GetMapping("/slice")
+    @QueryBudget(statements = 4)
+    public ResponseEntity<Slice<ProductDto.Response>> getProductSlice(
+            @Parameter(description = "편의점/브랜드 필터 (복수 선택 가능)") @RequestParam(value = "stores", required = false) List<String> stores,
+            @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(value = "categories", required = false) List<String> categories,
+            @Parameter(description = "최소 가격") @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @Parameter(description = "페이지 번호 (0부터 시작)") @RequestParam(value = "page", defaultValue = "0") int page,
+            @Parameter(description = "페이지 크기") @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        Pageable pageable = PageRequest.of(page, size);
+        Slice<ProductDto.Response> products = productService.getProductSlice(stores, categories, minPrice, maxPrice, pageable);
+        return ResponseEntity.ok(products);
+    }
+
+    @Operation(summary = "제품 목록 커서 조회", description = "커서(createdAt, id) 기반으로 제품 목록을 조회합니다. 첫 페이지는 cursor 없이 요청하고, 이후 응답의 nextCursor를 전달합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ProductDto.CursorPage.class))),
+            @ApiResponse(responseCode = "400", description = "유효하지 않은 커서", content = @Content)
+    })
+    @GetMapping("/cursor")
+    @QueryBudget(statements = 4)
+    public ResponseEntity<ProductDto.CursorPage> getProductsByCursor(
+            @Parameter(description = "편의점/브랜드 필터 (복수 선택 가능)") @RequestParam(value = "stores", required = false) List<String> stores,
+            @Parameter(description = "카테고리 필터 (복수 선택 가능)") @RequestParam(value = "categories", required = false) List<String> categories,
+            @Parameter(description = "최소 가격") @RequestParam(value = "minPrice", required = false) Integer minPrice,
+            @Parameter(description = "최대 가격") @RequestParam(value = "maxPrice", required = false) Integer maxPrice,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)") @RequestParam(value = "cursor", required = false) String cursor,
+            @Parameter(description = "페이지 크기 (1~100)") @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        ProductDto.CursorPage products = productService.getProductsByCursor(stores, categories, minPrice, maxPrice, cursor, size);
         return ResponseEntity.ok(products);
     }
 
     @Operation(summary = "필터 옵션 조회", description = "DB에 실제로 존재하는 매장과 카테고리 목록을 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)", content = @Content)
     })
     @GetMapping("/filters")
-    public ResponseEntity<ProductDto.FilterOptions> getFilterOptions() {
+    public ResponseEntity<ProductDto.FilterOptions> getFilterOptions(@Parameter(hidden = true) WebRequest webRequest) {
+        ContentVersion version = productService.getFilterOptionsVersion();
+        if (webRequest.checkNotModified(version.getTag(), version.getLastModified())) {
+            return null;
+        }
+
         ProductDto.FilterOptions filterOptions = productService.getFilterOptions();
-        return ResponseEntity.ok(filterOptions);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(filterOptions);
+    }
+
+    @Operation(summary = "트렌딩 제품 조회", description = "최근 기간(1h, 24h, 7d) 동안 조회수가 많은 제품을 순서대로 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "지원하지 않는 기간", content = @Content)
+    })
+    @GetMapping("/trending")
+    @QueryBudget(statements = 3)
+    public ResponseEntity<List<ProductDto.Response>> getTrendingProducts(
+            @Parameter(description = "집계 기간 (1h, 24h, 7d)") @RequestParam(value = "window", defaultValue = "24h") String window,
+            @Parameter(description = "조회 개수 (1~100)") @RequestParam(value = "size", defaultValue = "20") int size
+    ) {
+        List<ProductDto.Response> products = productService.getTrendingProducts(window, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @Operation(summary = "바코드로 제품 조회", description = "바코드로 승인된 제품을 조회합니다. 매장 내 스캔용입니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = ProductDto.Response.class))),
+            @ApiResponse(responseCode = "400", description = "제품을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/barcode/{code}")
+    public ResponseEntity<byte[]> getProductByBarcode(
+            @Parameter(description = "바코드") @PathVariable("code") String code) {
+        ProductDetailCache.Detail detail = productService.getProductByBarcode(code);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.body());
     }
 
     @Operation(summary = "제품 상세 조회", description = "제품 ID로 상세 정보를 조회합니다.")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = ProductDto.Response.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)", content = @Content),
             @ApiResponse(responseCode = "404", description = "제품을 찾을 수 없음", content = @Content)
     })
     @GetMapping("/{id}")
-    public ResponseEntity<ProductDto.Response> getProduct(
-            @Parameter(description = "제품 ID") @PathVariable("id") Long id) {
-        ProductDto.Response product = productService.getProductById(id);
-        return ResponseEntity.ok(product);
+    @QueryBudget(statements = 3)
+    public ResponseEntity<byte[]> getProduct(
+            @Parameter(description = "제품 ID") @PathVariable("id") Long id,
+            @Parameter(hidden = true) WebRequest webRequest) {
+        // The view is recorded even when the client only revalidates
+        ProductDetailCache.Detail detail = productService.getProductDetail(id);
+        ContentVersion version = detail.version();
+        if (webRequest.checkNotModified(version.getTag(), version.getLastModified())) {
+            return null;
+        }
+
+        // Pre-serialized JSON goes out through the byte array converter without touching Jackson
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noCache())
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(detail.body());
     }
 
     @Operation(summary = "제품 등록", description = "새로운 제품을 등록합니다. (인증 필요)",
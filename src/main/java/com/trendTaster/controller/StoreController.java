@@ -1,6 +1,7 @@
 package com.trendTaster.controller;
 
 import com.trendTaster.domain.User;
+import com.trendTaster.dto.ContentVersion;
 import com.trendTaster.dto.StoreDto;
 import com.trendTaster.service.StoreService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -14,9 +15,11 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -31,12 +34,18 @@ public class StoreController {
 
     @Operation(summary = "승인된 매장/브랜드 목록 조회", description = "승인된 매장/브랜드 목록을 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match / If-Modified-Since 일치)", content = @Content)
     })
     @GetMapping
-    public ResponseEntity<List<StoreDto.Response>> getAllApprovedStores() {
+    public ResponseEntity<List<StoreDto.Response>> getAllApprovedStores(@Parameter(hidden = true) WebRequest webRequest) {
+        ContentVersion version = storeService.getApprovedStoresVersion();
+        if (webRequest.checkNotModified(version.getTag(), version.getLastModified())) {
+            return null;
+        }
+
         List<StoreDto.Response> stores = storeService.getAllApprovedStores();
-        return ResponseEntity.ok(stores);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).body(stores);
     }
 
     @Operation(summary = "매장/브랜드 상세 조회", description = "매장/브랜드 ID로 상세 정보를 조회합니다.")
@@ -31,8 +31,8 @@ public class UploadController {
 
     private final UploadTokenRepository uploadTokenRepository;
 
-    // Supabase Storage URL 패턴 (환경 변수로 설정 가능)
-    private static final String SUPABASE_URL_PATTERN =
+    // Supabase Storage URL 패턴 (환경 변수로 설정 가능); package-private for UploadUrlPatternBenchmark
+    static final String SUPABASE_URL_PATTERN =
             "^https://[a-z0-9]+\\.supabase\\.co/storage/v1/object/public/product-images/.*\\.(jpg|jpeg|png|webp)$";
 
     @Operation(summary = "업로드 토큰 발급", description = "이미지 업로드를 위한 임시 토큰을 발급합니다. (인증 필요)",
@@ -13,7 +13,9 @@ import java.util.List;
         @Index(name = "idx_store", columnList = "store"),
         @Index(name = "idx_category", columnList = "category"),
         @Index(name = "idx_status", columnList = "status"),
-        @Index(name = "idx_release_date", columnList = "releaseDate")
+        @Index(name = "idx_release_date", columnList = "releaseDate"),
+        @Index(name = "idx_status_created_at_id", columnList = "status, created_at, id"),
+        @Index(name = "idx_barcode", columnList = "barcode")
     }
 )
 @Getter
@@ -23,7 +25,8 @@ import java.util.List;
 public class Product extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "product_seq_gen")
+    @SequenceGenerator(name = "product_seq_gen", sequenceName = "products_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 200)
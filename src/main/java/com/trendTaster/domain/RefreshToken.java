@@ -0,0 +1,58 @@
+package com.trendTaster.domain;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+// One link in a login session's refresh chain. Only the SHA-256 of the token is stored. Every refresh
+// marks the presented token used and issues the next one under the same session id; presenting a used
+// token again means it leaked, and the whole session is revoked.
+@Entity
+@Table(name = "refresh_tokens",
+    indexes = {
+        @Index(name = "idx_refresh_token_session", columnList = "sessionId"),
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expiresAt")
+    }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class RefreshToken extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refresh_token_seq_gen")
+    @SequenceGenerator(name = "refresh_token_seq_gen", sequenceName = "refresh_tokens_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, unique = true, length = 64)
+    private String tokenHash;
+
+    // Also the "sid" claim of every access token issued in this session
+    @Column(nullable = false, length = 36)
+    private String sessionId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false)
+    private User user;
+
+    // users.token_version when issued; a later bump (logout everywhere, role change) ends the session
+    @Column(nullable = false)
+    private Integer tokenVersion;
+
+    @Column(nullable = false)
+    private LocalDateTime expiresAt;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean used = false;
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Boolean revoked = false;
+
+    public boolean isExpired() {
+        return LocalDateTime.now().isAfter(expiresAt);
+    }
+}
@@ -20,7 +20,8 @@ import lombok.*;
 public class Store extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "store_seq_gen")
+    @SequenceGenerator(name = "store_seq_gen", sequenceName = "stores_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class UploadToken extends BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "upload_token_seq_gen")
+    @SequenceGenerator(name = "upload_token_seq_gen", sequenceName = "upload_tokens_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, unique = true, length = 100)
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.util.List;
+
 public class AdminDto {
 
     @Getter
@@ -19,4 +21,24 @@ public class AdminDto {
         private Long totalUsers;
         private Long adminUsers;
     }
+
+    @Getter
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportResult {
+        private Long totalRows;
+        private Long importedRows;
+        private Long failedRows;
+        // Capped; failedRows still counts every rejected row
+        private List<ImportError> errors;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ImportError {
+        private Long line;
+        private String message;
+    }
 }
@@ -48,9 +48,19 @@ public class AuthDto {
     @Builder
     public static class AuthResponse {
         private String token;
+        private String refreshToken;
         private UserResponse user;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshRequest {
+        @NotBlank(message = "리프레시 토큰은 필수입니다")
+        private String refreshToken;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
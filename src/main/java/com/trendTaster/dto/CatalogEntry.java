@@ -0,0 +1,48 @@
+package com.trendTaster.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collection;
+import java.util.Comparator;
+
+// Filterable columns of one approved product (JPQL projection), as held by the catalog index
+@Getter
+public class CatalogEntry {
+
+    // Same order as the product list: newest first, id as the tie-breaker
+    public static final Comparator<CatalogEntry> LIST_ORDER = Comparator
+            .comparingLong(CatalogEntry::getCreatedAtKey).reversed()
+            .thenComparing(Comparator.comparingLong(CatalogEntry::getId).reversed());
+
+    private final long id;
+    private final String store;
+    private final String category;
+    private final int price;
+    private final long createdAtKey;
+
+    public CatalogEntry(Long id, String store, String category, Integer price, LocalDateTime createdAt) {
+        this(id, store, category, price, toKey(createdAt));
+    }
+
+    public CatalogEntry(long id, String store, String category, int price, long createdAtKey) {
+        this.id = id;
+        this.store = store;
+        this.category = category;
+        this.price = price;
+        this.createdAtKey = createdAtKey;
+    }
+
+    public boolean matches(Collection<String> stores, Collection<String> categories, Integer minPrice, Integer maxPrice) {
+        return (stores == null || stores.contains(store))
+                && (categories == null || categories.contains(category))
+                && (minPrice == null || price >= minPrice)
+                && (maxPrice == null || price <= maxPrice);
+    }
+
+    // Microseconds since epoch, matching Postgres timestamp precision
+    private static long toKey(LocalDateTime createdAt) {
+        return createdAt.toEpochSecond(ZoneOffset.UTC) * 1_000_000L + createdAt.getNano() / 1_000;
+    }
+}
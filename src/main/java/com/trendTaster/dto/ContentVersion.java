@@ -0,0 +1,33 @@
+package com.trendTaster.dto;
+
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+// Cheap validator for conditional GETs: an ETag value plus a Last-Modified timestamp (-1 if unknown)
+@Getter
+public class ContentVersion {
+
+    private final String tag;
+    private final long lastModified;
+
+    public ContentVersion(String tag, long lastModified) {
+        this.tag = tag;
+        this.lastModified = lastModified;
+    }
+
+    // JPQL projection of MAX(updatedAt), COUNT(*) over a result set
+    public ContentVersion(LocalDateTime maxUpdatedAt, Long count) {
+        this(Long.toHexString(toMillis(maxUpdatedAt)) + "-" + count, toMillis(maxUpdatedAt));
+    }
+
+    public static ContentVersion of(String name, LocalDateTime updatedAt) {
+        long millis = toMillis(updatedAt);
+        return new ContentVersion(name + "-" + Long.toHexString(millis), millis);
+    }
+
+    private static long toMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -67,6 +67,11 @@ public class ProductDto {
         private String updatedAt;
 
         public static Response from(Product product) {
+            return from(product, product.getImages());
+        }
+
+        // Images are passed in so list reads can batch-load them instead of touching the lazy collection
+        public static Response from(Product product, List<ProductImage> images) {
             DateTimeFormatter formatter = DateTimeFormatter.ISO_LOCAL_DATE_TIME;
             return Response.builder()
                 .id(product.getId())
@@ -82,7 +87,7 @@ public class ProductDto {
                 .status(product.getStatus().name().toLowerCase())
                 .submittedBy(product.getSubmittedBy() != null ? product.getSubmittedBy().getUsername() : null)
                 .viewsCount(product.getViewsCount())
-                .images(product.getImages().stream()
+                .images(images.stream()
                     .map(ImageResponse::from)
                     .collect(Collectors.toList()))
                 .isNew(product.isNew())
@@ -127,6 +132,18 @@ public class ProductDto {
         private String location;
     }
 
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CursorPage {
+        private List<Response> content;
+        private String nextCursor;
+        private boolean hasNext;
+        private int size;
+    }
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -136,4 +153,35 @@ public class ProductDto {
         private List<String> stores;
         private List<String> categories;
     }
+
+    // Disjunctive facet counts: each facet is counted under every filter except its own
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class Facets {
+        private long total;
+        private List<FacetCount> stores;
+        private List<FacetCount> categories;
+        private List<PriceBucket> prices;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class FacetCount {
+        private String value;
+        private long count;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class PriceBucket {
+        private Integer minPrice;
+        // Inclusive; null for the open-ended top bucket
+        private Integer maxPrice;
+        private long count;
+    }
 }
@@ -0,0 +1,18 @@
+package com.trendTaster.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Searchable and filterable columns of one approved product (JPQL projection)
+@Getter
+@RequiredArgsConstructor
+public class SearchDocument {
+
+    private final Long id;
+    private final String name;
+    private final String description;
+    private final String ingredients;
+    private final String store;
+    private final String category;
+    private final Integer price;
+}
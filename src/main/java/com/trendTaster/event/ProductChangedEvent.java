@@ -0,0 +1,19 @@
+package com.trendTaster.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Published when a product enters or leaves the approved catalog
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+
+    private final Long productId;
+    private final ChangeType type;
+
+    public enum ChangeType {
+        APPROVED,
+        REJECTED,
+        DELETED
+    }
+}
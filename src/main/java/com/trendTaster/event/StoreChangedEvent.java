@@ -0,0 +1,19 @@
+package com.trendTaster.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// Published when a store's review status changes or the store is removed
+@Getter
+@RequiredArgsConstructor
+public class StoreChangedEvent {
+
+    private final Long storeId;
+    private final ChangeType type;
+
+    public enum ChangeType {
+        APPROVED,
+        REJECTED,
+        DELETED
+    }
+}
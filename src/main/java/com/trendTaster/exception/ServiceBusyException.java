@@ -0,0 +1,9 @@
+package com.trendTaster.exception;
+
+// A bounded resource is saturated; the request may succeed if retried shortly (mapped to 503)
+public class ServiceBusyException extends RuntimeException {
+
+    public ServiceBusyException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,17 @@
+package com.trendTaster.monitoring;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// Prefixes Hibernate-generated SQL with the handler that issued it, e.g. /* ProductController.getProducts */,
+// so slow-query logs and pg_stat_activity point straight at the endpoint. Counting stays in
+// SqlMeteringDataSource, which also sees JdbcTemplate statements; counting here as well would double up.
+public class HandlerCommentStatementInspector implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        SqlStats stats = SqlStats.current();
+        return stats != null && stats.getHandler() != null
+                ? "/* " + stats.getHandler() + " */ " + sql
+                : sql;
+    }
+}
@@ -0,0 +1,18 @@
+package com.trendTaster.monitoring;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+// Maximum SQL statements one request to the annotated handler may run, counted from the start of the
+// request (authentication included). Overruns are logged; with monitoring.query-budget.strict=true the
+// request fails instead, which is how tests catch N+1 regressions.
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryBudget {
+
+    int statements();
+}
@@ -0,0 +1,54 @@
+package com.trendTaster.monitoring;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+import java.util.Locale;
+
+// Adds the request's database figures as a Server-Timing header (visible in browser dev tools) just
+// before the body is written, and enforces @QueryBudget while the response can still be failed
+@Slf4j
+@RestControllerAdvice
+public class ServerTimingAdvice implements ResponseBodyAdvice<Object> {
+
+    private final boolean strictBudgets;
+
+    public ServerTimingAdvice(@Value("${monitoring.query-budget.strict:false}") boolean strictBudgets) {
+        this.strictBudgets = strictBudgets;
+    }
+
+    @Override
+    public boolean supports(MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        return true;
+    }
+
+    @Override
+    public Object beforeBodyWrite(Object body, MethodParameter returnType, MediaType selectedContentType,
+                                  Class<? extends HttpMessageConverter<?>> selectedConverterType,
+                                  ServerHttpRequest request, ServerHttpResponse response) {
+        SqlStats stats = SqlStats.current();
+        if (stats == null) {
+            return body;
+        }
+
+        response.getHeaders().add("Server-Timing", String.format(Locale.ROOT,
+                "db;dur=%.1f;desc=\"%d statements, %d rows\"",
+                stats.getNanos() / 1_000_000.0, stats.getStatements(), stats.getRows()));
+
+        String overrun = stats.checkBudget();
+        if (overrun != null) {
+            if (strictBudgets) {
+                throw new IllegalStateException("Query budget exceeded: " + overrun);
+            }
+            log.warn("Query budget exceeded: {}", overrun);
+        }
+        return body;
+    }
+}
@@ -0,0 +1,20 @@
+package com.trendTaster.monitoring;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// Tags the request's SqlStats with the controller method that serves it, plus its budget if any
+class SqlHandlerInterceptor implements HandlerInterceptor {
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        SqlStats stats = SqlStats.current();
+        if (stats != null && handler instanceof HandlerMethod method) {
+            stats.bindHandler(method.getBeanType().getSimpleName() + "." + method.getMethod().getName(),
+                    method.getMethodAnnotation(QueryBudget.class));
+        }
+        return true;
+    }
+}
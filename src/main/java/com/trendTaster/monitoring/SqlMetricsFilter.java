@@ -0,0 +1,71 @@
+package com.trendTaster.monitoring;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+// Opens the per-request SqlStats before security runs, so token authentication queries are counted too,
+// and publishes the totals per handler method once the request completes
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class SqlMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SqlStats stats = SqlStats.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            SqlStats.end();
+            record(stats);
+        }
+    }
+
+    private void record(SqlStats stats) {
+        // Unmapped requests (static files, 404s) would only add noise and tag cardinality
+        String handler = stats.getHandler();
+        if (handler == null) {
+            return;
+        }
+
+        DistributionSummary.builder("http.server.requests.db.statements")
+                .description("SQL statements executed per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getStatements());
+        DistributionSummary.builder("http.server.requests.db.rows")
+                .description("Rows read from result sets per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getRows());
+        Timer.builder("http.server.requests.db.time")
+                .description("Time spent executing SQL per request")
+                .tag("handler", handler)
+                .register(meterRegistry)
+                .record(stats.getNanos(), TimeUnit.NANOSECONDS);
+
+        // Responses without a body never pass through ServerTimingAdvice
+        String overrun = stats.checkBudget();
+        if (overrun != null) {
+            log.warn("Query budget exceeded: {}", overrun);
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.trendTaster.monitoring;
+
+import com.trendTaster.config.DataSourceWrapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+public class SqlMonitoringConfig implements WebMvcConfigurer {
+
+    // Static so the post-processor does not force this configuration to initialize early
+    @Bean
+    public static DataSourceWrapper sqlMeteringDataSource() {
+        return new DataSourceWrapper(DataSourceWrapper.METERING_ORDER, SqlMeteringDataSource::new);
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new SqlHandlerInterceptor());
+    }
+}
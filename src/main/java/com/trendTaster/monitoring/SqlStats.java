@@ -0,0 +1,71 @@
+package com.trendTaster.monitoring;
+
+// Database work done on behalf of one HTTP request. Bound to the request thread by SqlMetricsFilter;
+// statements issued from other threads (async exports, scheduled jobs) are not attributed to a request.
+public final class SqlStats {
+
+    private static final ThreadLocal<SqlStats> CURRENT = new ThreadLocal<>();
+
+    private int statements;
+    private long rows;
+    private long nanos;
+    private String handler;
+    private QueryBudget budget;
+    private boolean budgetChecked;
+
+    static SqlStats begin() {
+        SqlStats stats = new SqlStats();
+        CURRENT.set(stats);
+        return stats;
+    }
+
+    static void end() {
+        CURRENT.remove();
+    }
+
+    // Null outside a request
+    public static SqlStats current() {
+        return CURRENT.get();
+    }
+
+    void recordStatement(long elapsedNanos) {
+        statements++;
+        nanos += elapsedNanos;
+    }
+
+    void recordRow() {
+        rows++;
+    }
+
+    void bindHandler(String handler, QueryBudget budget) {
+        this.handler = handler;
+        this.budget = budget;
+    }
+
+    public int getStatements() {
+        return statements;
+    }
+
+    public long getRows() {
+        return rows;
+    }
+
+    public long getNanos() {
+        return nanos;
+    }
+
+    public String getHandler() {
+        return handler;
+    }
+
+    // Returns a description of the overrun the first time the budget is found exceeded, else null
+    String checkBudget() {
+        if (budget == null || budgetChecked) {
+            return null;
+        }
+        budgetChecked = true;
+        return statements > budget.statements()
+                ? handler + " ran " + statements + " SQL statements, budget is " + budget.statements()
+                : null;
+    }
+}
@@ -0,0 +1,80 @@
+package com.trendTaster.repository;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+// Entity ids come from Postgres sequences with Hibernate's pooled optimizer: one nextval hands out
+// the block (value - ALLOCATION_SIZE, value]. JDBC writers reserve ids through here so they share
+// those blocks with Hibernate instead of colliding with them.
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+@DependsOn("entityManagerFactory")
+public class IdSequenceRepository {
+
+    // Must match allocationSize on the entities' @SequenceGenerator
+    public static final int ALLOCATION_SIZE = 50;
+
+    public static final String PRODUCTS_SEQ = "products_seq";
+    public static final String PRODUCT_IMAGES_SEQ = "product_images_seq";
+    public static final String STORES_SEQ = "stores_seq";
+    public static final String USERS_SEQ = "users_seq";
+
+    private static final Map<String, String> SEQUENCE_TABLES = Map.of(
+            PRODUCTS_SEQ, "products",
+            PRODUCT_IMAGES_SEQ, "product_images",
+            STORES_SEQ, "stores",
+            "upload_tokens_seq", "upload_tokens",
+            USERS_SEQ, "users"
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // Tables created under IDENTITY already hold ids the fresh sequences would hand out again.
+    // Only moves a sequence forward, so running instances never get a block re-issued.
+    @PostConstruct
+    void alignWithTables() {
+        SEQUENCE_TABLES.forEach((sequence, table) -> {
+            try {
+                List<Long> aligned = jdbcTemplate.queryForList(
+                        "SELECT setval('" + sequence + "', t.max_id) "
+                                + "FROM (SELECT MAX(id) AS max_id FROM " + table + ") t, " + sequence + " s "
+                                + "WHERE t.max_id > s.last_value",
+                        Long.class);
+                if (!aligned.isEmpty()) {
+                    log.info("Advanced {} to {} to clear existing {} ids", sequence, aligned.get(0), table);
+                }
+            } catch (DataAccessException e) {
+                log.warn("Could not align {} with {}: {}", sequence, table, e.getMessage());
+            }
+        });
+    }
+
+    public List<Long> reserve(String sequence, int count) {
+        List<Long> ids = new ArrayList<>(count);
+        while (ids.size() < count) {
+            int blocks = (count - ids.size() + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE;
+            List<Long> highValues = jdbcTemplate.queryForList(
+                    "SELECT nextval(CAST(? AS regclass)) FROM generate_series(1, ?)", Long.class, sequence, blocks);
+            for (long high : highValues) {
+                // A fresh sequence starts at 1; Hibernate skips that value as well
+                if (high < ALLOCATION_SIZE) {
+                    continue;
+                }
+                for (long id = high - ALLOCATION_SIZE + 1; id <= high && ids.size() < count; id++) {
+                    ids.add(id);
+                }
+            }
+        }
+        return ids;
+    }
+}
@@ -1,14 +1,25 @@
 package com.trendTaster.repository;
 
 import com.trendTaster.domain.Product;
+import com.trendTaster.dto.CatalogEntry;
+import com.trendTaster.dto.ContentVersion;
+import com.trendTaster.dto.SearchDocument;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface ProductRepository extends JpaRepository<Product, Long> {
@@ -16,30 +27,141 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
     @Query("SELECT p FROM Product p LEFT JOIN FETCH p.images WHERE p.status = 'APPROVED' ORDER BY p.createdAt DESC")
     List<Product> findAllApprovedWithImages();
 
-    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.images WHERE p.status = 'PENDING' ORDER BY p.createdAt DESC")
+    // Forward-only cursor for exports: Postgres only streams with a fetch size inside a transaction
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE p.status = 'APPROVED' ORDER BY p.id")
+    Stream<Product> streamAllApproved();
+
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE p.status = 'PENDING' ORDER BY p.createdAt DESC")
     List<Product> findAllPending();
 
-    @Query(value = "SELECT p FROM Product p WHERE p.status = 'PENDING' ORDER BY p.createdAt DESC",
+    @Query(value = "SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE p.status = 'PENDING' ORDER BY p.createdAt DESC",
            countQuery = "SELECT COUNT(p) FROM Product p WHERE p.status = 'PENDING'")
     Page<Product> findAllPendingPageable(Pageable pageable);
 
     Page<Product> findByStatusOrderByCreatedAtDesc(Product.ProductStatus status, Pageable pageable);
 
-    @Query("SELECT p FROM Product p WHERE " +
+    // Slice return type makes Spring Data fetch size + 1 rows and skip the COUNT query
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE " +
            "(:stores IS NULL OR p.store IN :stores) AND " +
            "(:categories IS NULL OR p.category IN :categories) AND " +
            "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
            "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
            "p.status = 'APPROVED' " +
            "ORDER BY p.createdAt DESC")
-    Page<Product> findByFilters(
+    Slice<Product> findSliceByFilters(
+        @Param("stores") List<String> stores,
+        @Param("categories") List<String> categories,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice,
+        Pageable pageable
+    );
+
+    // Facet counts in one scan: GROUPING SETS yields one row per store, category and price bucket plus
+    // a grand total row (level = GROUPING bitmask 3, 5, 6, 7), and each filtered count leaves out the
+    // filter of its own facet. Absent list filters are passed as filterX = false with a placeholder list.
+    @Query(value = "SELECT store, category, bucket, GROUPING(store, category, bucket) AS level, " +
+           "COUNT(*) FILTER (WHERE category_ok AND price_ok) AS store_count, " +
+           "COUNT(*) FILTER (WHERE store_ok AND price_ok) AS category_count, " +
+           "COUNT(*) FILTER (WHERE store_ok AND category_ok) AS price_count, " +
+           "COUNT(*) FILTER (WHERE store_ok AND category_ok AND price_ok) AS total " +
+           "FROM (SELECT p.store, p.category, " +
+           "width_bucket(p.price, ARRAY[1000, 2000, 3000, 5000, 10000]) AS bucket, " +
+           "(NOT :filterStores OR p.store IN (:stores)) AS store_ok, " +
+           "(NOT :filterCategories OR p.category IN (:categories)) AS category_ok, " +
+           "((CAST(:minPrice AS integer) IS NULL OR p.price >= CAST(:minPrice AS integer)) AND " +
+           "(CAST(:maxPrice AS integer) IS NULL OR p.price <= CAST(:maxPrice AS integer))) AS price_ok " +
+           "FROM products p WHERE p.status = 'APPROVED') f " +
+           "GROUP BY GROUPING SETS ((store), (category), (bucket), ())",
+           nativeQuery = true)
+    List<Object[]> countFacetsByFilters(
+        @Param("filterStores") boolean filterStores,
+        @Param("stores") Collection<String> stores,
+        @Param("filterCategories") boolean filterCategories,
+        @Param("categories") Collection<String> categories,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice
+    );
+
+    @Query("SELECT COUNT(p) FROM Product p WHERE " +
+           "(:stores IS NULL OR p.store IN :stores) AND " +
+           "(:categories IS NULL OR p.category IN :categories) AND " +
+           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+           "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
+           "p.status = 'APPROVED'")
+    long countByFilters(
+        @Param("stores") List<String> stores,
+        @Param("categories") List<String> categories,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice
+    );
+
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE " +
+           "(:stores IS NULL OR p.store IN :stores) AND " +
+           "(:categories IS NULL OR p.category IN :categories) AND " +
+           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+           "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
+           "p.status = 'APPROVED' " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findFirstByFilters(
+        @Param("stores") List<String> stores,
+        @Param("categories") List<String> categories,
+        @Param("minPrice") Integer minPrice,
+        @Param("maxPrice") Integer maxPrice,
+        Pageable pageable
+    );
+
+    // Keyset continuation; the redundant "createdAt <=" bound lets Postgres range-scan idx_status_created_at_id
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE " +
+           "(:stores IS NULL OR p.store IN :stores) AND " +
+           "(:categories IS NULL OR p.category IN :categories) AND " +
+           "(:minPrice IS NULL OR p.price >= :minPrice) AND " +
+           "(:maxPrice IS NULL OR p.price <= :maxPrice) AND " +
+           "p.status = 'APPROVED' AND " +
+           "p.createdAt <= :createdAt AND " +
+           "(p.createdAt < :createdAt OR p.id < :id) " +
+           "ORDER BY p.createdAt DESC, p.id DESC")
+    List<Product> findNextByFilters(
         @Param("stores") List<String> stores,
         @Param("categories") List<String> categories,
         @Param("minPrice") Integer minPrice,
         @Param("maxPrice") Integer maxPrice,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("id") Long id,
         Pageable pageable
     );
 
+    @Query("SELECT p FROM Product p LEFT JOIN FETCH p.submittedBy WHERE p.id IN :ids")
+    List<Product> findAllWithSubmitterByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query("SELECT new com.trendTaster.dto.CatalogEntry(p.id, p.store, p.category, p.price, p.createdAt) " +
+           "FROM Product p WHERE p.status = 'APPROVED' ORDER BY p.createdAt DESC, p.id DESC")
+    List<CatalogEntry> findCatalogEntries();
+
+    @Query("SELECT new com.trendTaster.dto.CatalogEntry(p.id, p.store, p.category, p.price, p.createdAt) " +
+           "FROM Product p WHERE p.id = :id AND p.status = 'APPROVED'")
+    Optional<CatalogEntry> findCatalogEntry(@Param("id") Long id);
+
+    @Query("SELECT new com.trendTaster.dto.SearchDocument(p.id, p.name, p.description, p.ingredients, p.store, p.category, p.price) " +
+           "FROM Product p WHERE p.status = 'APPROVED'")
+    List<SearchDocument> findSearchDocuments();
+
+    @Query("SELECT new com.trendTaster.dto.SearchDocument(p.id, p.name, p.description, p.ingredients, p.store, p.category, p.price) " +
+           "FROM Product p WHERE p.id = :id AND p.status = 'APPROVED'")
+    Optional<SearchDocument> findSearchDocument(@Param("id") Long id);
+
+    @Query("SELECT p.id FROM Product p WHERE p.barcode = :barcode AND p.status = 'APPROVED' ORDER BY p.createdAt DESC")
+    List<Long> findApprovedIdsByBarcode(@Param("barcode") String barcode, Pageable pageable);
+
+    @Query("SELECT p.barcode FROM Product p WHERE p.id = :id AND p.barcode IS NOT NULL")
+    Optional<String> findBarcodeById(@Param("id") Long id);
+
+    @Query("SELECT new com.trendTaster.dto.ContentVersion(MAX(p.updatedAt), COUNT(p)) FROM Product p WHERE p.status = 'APPROVED'")
+    ContentVersion findApprovedVersion();
+
     @Query("SELECT DISTINCT p.store FROM Product p WHERE p.status = 'APPROVED' ORDER BY p.store")
     List<String> findDistinctStores();
 
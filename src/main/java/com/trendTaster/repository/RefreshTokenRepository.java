@@ -0,0 +1,43 @@
+package com.trendTaster.repository;
+
+import com.trendTaster.domain.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    @Query("SELECT t FROM RefreshToken t JOIN FETCH t.user WHERE t.tokenHash = :tokenHash")
+    Optional<RefreshToken> findByTokenHashWithUser(@Param("tokenHash") String tokenHash);
+
+    // Atomic claim: of two concurrent refreshes with the same token only one gets 1 back
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.used = true, t.updatedAt = CURRENT_TIMESTAMP WHERE t.id = :id AND t.used = false")
+    int markUsed(@Param("id") Long id);
+
+    @Modifying
+    @Query("UPDATE RefreshToken t SET t.revoked = true, t.updatedAt = CURRENT_TIMESTAMP WHERE t.sessionId = :sessionId")
+    int revokeSession(@Param("sessionId") String sessionId);
+
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t WHERE t.revoked = true AND t.expiresAt > :now")
+    List<String> findRevokedSessionIds(@Param("now") LocalDateTime now);
+
+    @Query("SELECT DISTINCT t.sessionId FROM RefreshToken t WHERE t.revoked = true AND t.updatedAt >= :since")
+    List<String> findSessionIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    @Query("SELECT COUNT(t) > 0 FROM RefreshToken t WHERE t.sessionId = :sessionId AND t.revoked = true")
+    boolean isSessionRevoked(@Param("sessionId") String sessionId);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM RefreshToken t WHERE t.expiresAt < :now")
+    int deleteExpiredTokens(@Param("now") LocalDateTime now);
+}
@@ -1,6 +1,7 @@
 package com.trendTaster.repository;
 
 import com.trendTaster.domain.Store;
+import com.trendTaster.dto.ContentVersion;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,6 +18,12 @@ public interface StoreRepository extends JpaRepository<Store, Long> {
     @Query("SELECT s FROM Store s WHERE s.status = 'APPROVED' ORDER BY s.name")
     List<Store> findAllApproved();
 
+    @Query("SELECT new com.trendTaster.dto.ContentVersion(MAX(s.updatedAt), COUNT(s)) FROM Store s WHERE s.status = 'APPROVED'")
+    ContentVersion findApprovedVersion();
+
+    @Query("SELECT s.name FROM Store s WHERE s.status = 'APPROVED' ORDER BY s.name")
+    List<String> findApprovedNames();
+
     @Query("SELECT s FROM Store s WHERE s.status = 'PENDING' ORDER BY s.createdAt DESC")
     List<Store> findAllPending();
 
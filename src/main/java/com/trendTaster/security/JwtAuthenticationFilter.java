@@ -1,7 +1,6 @@
 package com.trendTaster.security;
 
 import com.trendTaster.domain.User;
-import com.trendTaster.repository.UserRepository;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,8 +23,9 @@ import java.util.Collections;
 @RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
-    private final JwtTokenProvider tokenProvider;
-    private final UserRepository userRepository;
+    private final VerifiedTokenCache verifiedTokenCache;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RevokedSessionRegistry revokedSessionRegistry;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -34,21 +34,21 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                Long userId = tokenProvider.getUserIdFromToken(jwt);
+            VerifiedToken token = StringUtils.hasText(jwt) ? verifiedTokenCache.verify(jwt).orElse(null) : null;
 
-                User user = userRepository.findById(userId).orElse(null);
-                if (user != null) {
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    user,
-                                    null,
-                                    Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
-                            );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+            if (token != null && token.role() != null && token.username() != null
+                    && tokenVersionRegistry.isCurrent(token.userId(), token.version())
+                    && (token.sessionId() == null || !revokedSessionRegistry.isRevoked(token.sessionId()))) {
+                User user = toPrincipal(token);
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                user,
+                                null,
+                                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole().name()))
+                        );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
-                }
+                SecurityContextHolder.getContext().setAuthentication(authentication);
             }
         } catch (Exception ex) {
             log.error("Could not set user authentication in security context", ex);
@@ -57,6 +57,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    // Built from claims alone: enough for role checks, ownership checks and as a submittedBy reference.
+    // Anything else about the user (timestamps, password) has to be loaded explicitly.
+    private static User toPrincipal(VerifiedToken token) {
+        return User.builder()
+                .id(token.userId())
+                .username(token.username())
+                .email(token.email())
+                .role(User.UserRole.valueOf(token.role()))
+                .tokenVersion(token.version())
+                .build();
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
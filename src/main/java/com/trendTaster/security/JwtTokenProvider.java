@@ -1,5 +1,6 @@
 package com.trendTaster.security;
 
+import com.trendTaster.domain.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
@@ -9,7 +10,10 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Date;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -21,43 +25,57 @@ public class JwtTokenProvider {
     @Value("${jwt.expiration}")
     private long expiration;
 
+    @Value("${jwt.refresh-expiration}")
+    private long refreshExpiration;
+
     private SecretKey secretKey;
 
+    // Immutable and thread-safe; built once instead of per token
+    private JwtParser parser;
+
     @PostConstruct
     protected void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretString.getBytes(StandardCharsets.UTF_8));
+        this.parser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
     }
 
-    public String generateToken(Long userId, String email) {
+    // Carries everything the security filter needs, so requests authenticate without loading the user
+    public String generateToken(User user, String sessionId) {
         Date now = new Date();
         Date expiryDate = new Date(now.getTime() + expiration);
 
         return Jwts.builder()
-                .subject(String.valueOf(userId))
-                .claim("email", email)
+                .subject(String.valueOf(user.getId()))
+                .claim("email", user.getEmail())
+                .claim("username", user.getUsername())
+                .claim("role", user.getRole().name())
+                .claim("ver", user.getTokenVersion())
+                .claim("sid", sessionId)
                 .issuedAt(now)
                 .expiration(expiryDate)
                 .signWith(secretKey)
                 .compact();
     }
 
-    public Long getUserIdFromToken(String token) {
-        Claims claims = Jwts.parser()
-                .verifyWith(secretKey)
-                .build()
-                .parseSignedClaims(token)
-                .getPayload();
-
-        return Long.parseLong(claims.getSubject());
+    public LocalDateTime refreshTokenExpiresAt() {
+        return LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration));
     }
 
-    public boolean validateToken(String token) {
+    // Checks the signature and expiry once and returns what the caller needs from the claims
+    public Optional<VerifiedToken> verify(String token) {
         try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
+            Claims claims = parser.parseSignedClaims(token).getPayload();
+            Number version = claims.get("ver", Number.class);
+            return Optional.of(new VerifiedToken(
+                    Long.parseLong(claims.getSubject()),
+                    claims.get("username", String.class),
+                    claims.get("email", String.class),
+                    claims.get("role", String.class),
+                    version != null ? version.intValue() : 0,
+                    claims.get("sid", String.class),
+                    claims.getExpiration().toInstant()));
         } catch (SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature");
         } catch (ExpiredJwtException e) {
@@ -67,6 +85,6 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException e) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
     }
 }
@@ -0,0 +1,93 @@
+package com.trendTaster.security;
+
+import com.trendTaster.repository.RefreshTokenRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Revoked login sessions (the "sid" claim of access tokens) as a Bloom filter, so the security filter
+// answers "not revoked" for almost every request without touching the database. Only a filter hit is
+// confirmed against refresh_tokens. Rebuilt at startup and periodically (dropping sessions whose
+// refresh tokens expired); revocations from other instances arrive with the incremental refresh.
+@Slf4j
+@Component
+public class RevokedSessionRegistry {
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final int expectedEntries;
+    private final double falsePositiveRate;
+    private final long overlapMillis;
+
+    private volatile BloomFilter filter;
+    private volatile LocalDateTime refreshedUpTo;
+
+    public RevokedSessionRegistry(RefreshTokenRepository refreshTokenRepository,
+                                  @Value("${jwt.revocation-filter.expected-entries:100000}") int expectedEntries,
+                                  @Value("${jwt.revocation-filter.false-positive-rate:0.001}") double falsePositiveRate,
+                                  @Value("${jwt.revocation-filter.refresh-overlap-ms:30000}") long overlapMillis) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.expectedEntries = expectedEntries;
+        this.falsePositiveRate = falsePositiveRate;
+        this.overlapMillis = overlapMillis;
+    }
+
+    @PostConstruct
+    void load() {
+        rebuild();
+    }
+
+    public boolean isRevoked(String sessionId) {
+        return filter.mightContain(sessionId) && refreshTokenRepository.isSessionRevoked(sessionId);
+    }
+
+    // Called once the session's refresh tokens are marked revoked; takes effect on this instance at once
+    public synchronized void markRevoked(String sessionId) {
+        filter.add(sessionId);
+    }
+
+    // updated_at is stamped before commit, so each pass re-reads an overlap window to catch
+    // transactions that committed after the previous pass had already run
+    @Scheduled(fixedDelayString = "${jwt.revocation-filter.refresh-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        try {
+            List<String> revoked = refreshTokenRepository.findSessionIdsRevokedSince(
+                    refreshedUpTo.minusNanos(overlapMillis * 1_000_000));
+            synchronized (this) {
+                revoked.forEach(filter::add);
+            }
+            refreshedUpTo = startedAt;
+        } catch (DataAccessException e) {
+            log.warn("Revoked session refresh failed: {}", e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation-filter.rebuild-interval-ms:3600000}",
+            initialDelayString = "${jwt.revocation-filter.rebuild-interval-ms:3600000}")
+    public void purgeAndRebuild() {
+        try {
+            int deleted = refreshTokenRepository.deleteExpiredTokens(LocalDateTime.now());
+            log.debug("Deleted {} expired refresh tokens", deleted);
+            rebuild();
+        } catch (DataAccessException e) {
+            log.warn("Revoked session rebuild failed: {}", e.getMessage());
+        }
+    }
+
+    // Holds the lock so a concurrent markRevoked cannot land in the filter being replaced
+    private synchronized void rebuild() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        List<String> revoked = refreshTokenRepository.findRevokedSessionIds(startedAt);
+        BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+        revoked.forEach(rebuilt::add);
+        filter = rebuilt;
+        refreshedUpTo = startedAt;
+        log.info("Built revoked session filter with {} sessions", revoked.size());
+    }
+}
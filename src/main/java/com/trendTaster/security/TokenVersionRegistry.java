@@ -0,0 +1,85 @@
+package com.trendTaster.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// User id -> current users.token_version, held in memory so the security filter can reject revoked
+// tokens without a query. Only users with a version above 0 are kept. Bumps made here apply at once;
+// bumps made by other instances arrive with the next incremental refresh (rows whose updated_at moved).
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class TokenVersionRegistry {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final long overlapMillis;
+
+    private final Map<Long, Integer> versions = new ConcurrentHashMap<>();
+    private volatile LocalDateTime refreshedUpTo;
+
+    public TokenVersionRegistry(JdbcTemplate jdbcTemplate,
+                                @Value("${jwt.token-versions.refresh-overlap-ms:30000}") long overlapMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.overlapMillis = overlapMillis;
+    }
+
+    @PostConstruct
+    void load() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        jdbcTemplate.query("SELECT id, token_version FROM users WHERE token_version > 0",
+                rs -> {
+                    versions.merge(rs.getLong(1), rs.getInt(2), Math::max);
+                });
+        refreshedUpTo = startedAt;
+        log.info("Loaded token versions for {} users", versions.size());
+    }
+
+    // updated_at is stamped before commit, so each pass re-reads an overlap window to catch
+    // transactions that committed after the previous pass had already run
+    @Scheduled(fixedDelayString = "${jwt.token-versions.refresh-interval-ms:5000}")
+    public void refresh() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        LocalDateTime since = refreshedUpTo.minusNanos(overlapMillis * 1_000_000);
+        try {
+            jdbcTemplate.query("SELECT id, token_version FROM users WHERE updated_at >= ? AND token_version > 0",
+                    rs -> {
+                        versions.merge(rs.getLong(1), rs.getInt(2), Math::max);
+                    },
+                    Timestamp.valueOf(since));
+            refreshedUpTo = startedAt;
+        } catch (DataAccessException e) {
+            log.warn("Token version refresh failed: {}", e.getMessage());
+        }
+    }
+
+    // Versions only grow, so a token is current unless something newer was issued after it
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        return tokenVersion >= versions.getOrDefault(userId, 0);
+    }
+
+    // Revokes every token issued to the user so far; returns the version new tokens must carry
+    public int revoke(Long userId) {
+        List<Integer> updated = jdbcTemplate.queryForList(
+                "UPDATE users SET token_version = token_version + 1, updated_at = now() WHERE id = ? "
+                        + "RETURNING token_version",
+                Integer.class, userId);
+        if (updated.isEmpty()) {
+            throw new IllegalArgumentException("사용자를 찾을 수 없습니다");
+        }
+        int version = updated.get(0);
+        versions.merge(userId, version, Math::max);
+        return version;
+    }
+}
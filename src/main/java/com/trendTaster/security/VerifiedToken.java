@@ -0,0 +1,14 @@
+package com.trendTaster.security;
+
+import java.time.Instant;
+
+// What a signature-checked access token says about its bearer. Role and username are null for tokens
+// issued before they were claims; such tokens no longer authenticate. sessionId is the login session
+// the token was issued under (see RefreshToken).
+public record VerifiedToken(Long userId, String username, String email, String role, int version,
+                            String sessionId, Instant expiresAt) {
+
+    public boolean isExpired() {
+        return !expiresAt.isAfter(Instant.now());
+    }
+}
@@ -0,0 +1,52 @@
+package com.trendTaster.security;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+// SHA-256(token) -> verified claims, so a client repeating the same bearer token skips the HMAC check
+// until the token expires. Keyed by digest so raw tokens are never kept in memory. Only successful
+// verifications are cached; a forged token is checked (and rejected) every time.
+@Component
+public class VerifiedTokenCache {
+
+    private final JwtTokenProvider tokenProvider;
+
+    // Guarded by this
+    private final Map<String, VerifiedToken> entries;
+
+    public VerifiedTokenCache(JwtTokenProvider tokenProvider,
+                              @Value("${jwt.verified-cache.max-entries:10000}") int maxEntries) {
+        this.tokenProvider = tokenProvider;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedToken> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    public Optional<VerifiedToken> verify(String token) {
+        String key = TokenHashes.sha256Hex(token);
+        synchronized (this) {
+            VerifiedToken cached = entries.get(key);
+            if (cached != null) {
+                if (!cached.isExpired()) {
+                    return Optional.of(cached);
+                }
+                entries.remove(key);
+            }
+        }
+
+        Optional<VerifiedToken> verified = tokenProvider.verify(token);
+        verified.ifPresent(v -> {
+            synchronized (this) {
+                entries.put(key, v);
+            }
+        });
+        return verified;
+    }
+}
@@ -0,0 +1,228 @@
+package com.trendTaster.seed;
+
+import com.trendTaster.repository.IdSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyManager;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.io.IOException;
+import java.io.StringReader;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Fills the database with synthetic users, stores, products and images for load and benchmark runs,
+// then shuts the application down. Only active under the "seed" profile (see application-seed.yml).
+// Rows go in through Postgres COPY, several chunks in parallel, each chunk on its own connection and
+// transaction. Ids are reserved from the entity sequences, so the app keeps inserting after the seed.
+@Slf4j
+@Component
+@Profile("seed")
+@RequiredArgsConstructor
+@EnableConfigurationProperties(SeedProperties.class)
+public class DataSeeder implements CommandLineRunner {
+
+    private static final String COPY_USERS =
+            "COPY users (id, username, email, password, role, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_PRODUCTS =
+            "COPY products (id, name, store, price, category, release_date, description, ingredients, barcode, "
+                    + "location, status, submitted_by, views_count, created_at, updated_at) FROM STDIN WITH (FORMAT csv)";
+    private static final String COPY_IMAGES =
+            "COPY product_images (id, product_id, image_url, display_order, created_at, updated_at) "
+                    + "FROM STDIN WITH (FORMAT csv)";
+    private static final String INSERT_STORE = """
+            INSERT INTO stores (id, name, description, status, created_at, updated_at)
+            VALUES (?, ?, ?, 'APPROVED', ?, ?)
+            ON CONFLICT (name) DO NOTHING
+            """;
+
+    private static final String IMAGE_URL =
+            "https://seed.supabase.co/storage/v1/object/public/product-images/%d-%d.webp";
+
+    private final SeedProperties properties;
+    private final DataSource dataSource;
+    private final JdbcTemplate jdbcTemplate;
+    private final IdSequenceRepository idSequenceRepository;
+    private final PasswordEncoder passwordEncoder;
+    private final ConfigurableApplicationContext context;
+
+    @Override
+    public void run(String... args) throws Exception {
+        long started = System.nanoTime();
+        log.info("Seeding {} users, {} stores, {} products (up to {} images each) on {} threads",
+                properties.getUsers(), properties.getStores(), properties.getProducts(),
+                properties.getMaxImagesPerProduct(), properties.getThreads());
+
+        long[] userIds = seedUsers();
+        List<String> storeNames = seedStores();
+        long[] counts = seedProducts(new SeedDataGenerator(storeNames, properties), userIds);
+
+        jdbcTemplate.execute("ANALYZE users, stores, products, product_images");
+
+        double seconds = (System.nanoTime() - started) / 1e9;
+        log.info("Seeded {} products and {} images in {} s ({} products/s)",
+                counts[0], counts[1], String.format("%.1f", seconds), Math.round(counts[0] / seconds));
+
+        System.exit(SpringApplication.exit(context, () -> 0));
+    }
+
+    private long[] seedUsers() throws SQLException {
+        // BCrypt is deliberately slow; one hash shared by every seeded account
+        String password = passwordEncoder.encode(properties.getUserPassword());
+        // Reruns must not collide with the unique username/email of an earlier run
+        String run = Long.toString(System.currentTimeMillis(), 36);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Long> ids = idSequenceRepository.reserve(IdSequenceRepository.USERS_SEQ, properties.getUsers());
+        long[] userIds = new long[ids.size()];
+        StringBuilder csv = new StringBuilder(ids.size() * 160);
+        for (int i = 0; i < ids.size(); i++) {
+            userIds[i] = ids.get(i);
+            Csv.row(csv, ids.get(i), "seed_" + run + "_" + i, "seed" + i + "." + run + "@example.com",
+                    password, "USER", now, now);
+        }
+        copy(COPY_USERS, csv);
+        log.info("Seeded {} users (password: {})", userIds.length, properties.getUserPassword());
+        return userIds;
+    }
+
+    // Stores are few; plain inserts so reruns can skip names that already exist
+    private List<String> seedStores() {
+        List<String> names = SeedDataGenerator.storeNames(properties.getStores());
+        List<Long> ids = idSequenceRepository.reserve(IdSequenceRepository.STORES_SEQ, names.size());
+        LocalDateTime now = LocalDateTime.now();
+
+        List<Object[]> rows = new ArrayList<>(names.size());
+        for (int i = 0; i < names.size(); i++) {
+            rows.add(new Object[]{ids.get(i), names.get(i), names.get(i) + " 입점 상품", now, now});
+        }
+        jdbcTemplate.batchUpdate(INSERT_STORE, rows);
+        return names;
+    }
+
+    private long[] seedProducts(SeedDataGenerator generator, long[] userIds) throws Exception {
+        int chunkSize = properties.getChunkSize();
+        int chunks = (properties.getProducts() + chunkSize - 1) / chunkSize;
+        AtomicLong productCount = new AtomicLong();
+        AtomicLong imageCount = new AtomicLong();
+
+        ExecutorService executor = Executors.newFixedThreadPool(properties.getThreads());
+        try {
+            List<Future<?>> futures = new ArrayList<>(chunks);
+            for (int chunk = 0; chunk < chunks; chunk++) {
+                int index = chunk;
+                int size = Math.min(chunkSize, properties.getProducts() - chunk * chunkSize);
+                futures.add(executor.submit(() -> {
+                    long images = seedChunk(generator, userIds, index, size);
+                    long done = productCount.addAndGet(size);
+                    imageCount.addAndGet(images);
+                    log.info("Seeded {}/{} products", done, properties.getProducts());
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return new long[]{productCount.get(), imageCount.get()};
+    }
+
+    private long seedChunk(SeedDataGenerator generator, long[] userIds, int index, int size) throws SQLException {
+        // Seeded per chunk, so the data does not depend on which thread ran which chunk
+        SplittableRandom random = new SplittableRandom(properties.getRandomSeed() + index * 0x9E3779B97F4A7C15L);
+        List<Long> productIds = idSequenceRepository.reserve(IdSequenceRepository.PRODUCTS_SEQ, size);
+
+        int[] imageCounts = new int[size];
+        int totalImages = 0;
+        StringBuilder products = new StringBuilder(size * 400);
+        List<LocalDateTime> createdAt = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            SeedDataGenerator.Product p = generator.product(random);
+            Long submittedBy = userIds.length == 0 ? null : userIds[random.nextInt(userIds.length)];
+            Csv.row(products, productIds.get(i), p.name(), p.store(), p.price(), p.category(), p.releaseDate(),
+                    p.description(), p.ingredients(), p.barcode(), p.location(), p.status(),
+                    submittedBy, p.views(), p.createdAt(), p.createdAt());
+            createdAt.add(p.createdAt());
+            imageCounts[i] = random.nextInt(properties.getMaxImagesPerProduct() + 1);
+            totalImages += imageCounts[i];
+        }
+
+        List<Long> imageIds = idSequenceRepository.reserve(IdSequenceRepository.PRODUCT_IMAGES_SEQ, totalImages);
+        StringBuilder images = new StringBuilder(totalImages * 140);
+        int next = 0;
+        for (int i = 0; i < size; i++) {
+            long productId = productIds.get(i);
+            for (int order = 0; order < imageCounts[i]; order++) {
+                Csv.row(images, imageIds.get(next++), productId, String.format(IMAGE_URL, productId, order),
+                        order, createdAt.get(i), createdAt.get(i));
+            }
+        }
+
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            try {
+                CopyManager copyManager = connection.unwrap(PGConnection.class).getCopyAPI();
+                copyManager.copyIn(COPY_PRODUCTS, new StringReader(products.toString()));
+                copyManager.copyIn(COPY_IMAGES, new StringReader(images.toString()));
+                connection.commit();
+            } catch (Exception e) {
+                connection.rollback();
+                throw new SQLException("Seeding chunk " + index + " failed", e);
+            } finally {
+                connection.setAutoCommit(true);
+            }
+        }
+        return totalImages;
+    }
+
+    private void copy(String sql, StringBuilder csv) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.unwrap(PGConnection.class).getCopyAPI().copyIn(sql, new StringReader(csv.toString()));
+        } catch (IOException e) {
+            throw new SQLException("COPY failed: " + sql, e);
+        }
+    }
+
+    // COPY ... WITH (FORMAT csv): an unquoted empty field is NULL, anything with a separator or quote is quoted
+    private static final class Csv {
+
+        static void row(StringBuilder out, Object... values) {
+            for (int i = 0; i < values.length; i++) {
+                if (i > 0) {
+                    out.append(',');
+                }
+                Object value = values[i];
+                if (value == null) {
+                    continue;
+                }
+                String text = value.toString();
+                if (text.isEmpty() || text.indexOf(',') >= 0 || text.indexOf('"') >= 0
+                        || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+                    out.append('"').append(text.replace("\"", "\"\"")).append('"');
+                } else {
+                    out.append(text);
+                }
+            }
+            out.append('\n');
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.trendTaster.seed;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// Korean convenience-store flavored values with skewed distributions: a few big chains carry most of
+// the catalog, prices scatter log-normally around a per-category level, and releases cluster near today
+final class SeedDataGenerator {
+
+    private record Category(String name, int basePrice, String[] ingredients) {
+    }
+
+    private static final String[] CHAINS = {
+            "GS25", "CU", "세븐일레븐", "이마트24", "미니스톱", "노브랜드", "홈플러스익스프레스",
+            "롯데마트", "이마트", "다이소", "올리브영", "스타벅스", "투썸플레이스", "파리바게뜨", "뚜레쥬르"
+    };
+    private static final String[] BRAND_PREFIXES = {"행복", "우리", "한빛", "새벽", "푸른", "동네", "바른", "하루", "온", "별빛"};
+    private static final String[] BRAND_SUFFIXES = {"마트", "상회", "편의점", "베이커리", "식품", "마켓", "스토어"};
+
+    private static final Category[] CATEGORIES = {
+            new Category("삼각김밥", 1500, new String[]{"쌀", "김", "참치", "마요네즈"}),
+            new Category("도시락", 5500, new String[]{"쌀", "돼지고기", "계란", "김치"}),
+            new Category("샌드위치", 3500, new String[]{"밀가루", "햄", "치즈", "양상추"}),
+            new Category("컵라면", 1700, new String[]{"소맥분", "팜유", "정제염", "고춧가루"}),
+            new Category("과자", 1800, new String[]{"감자", "옥수수", "설탕", "식물성유지"}),
+            new Category("음료", 1600, new String[]{"정제수", "과당", "구연산", "향료"}),
+            new Category("아이스크림", 2000, new String[]{"우유", "설탕", "유크림", "바닐라향"}),
+            new Category("디저트", 3800, new String[]{"생크림", "설탕", "계란", "밀가루"}),
+            new Category("유제품", 2200, new String[]{"원유", "유산균", "설탕"}),
+            new Category("커피", 2500, new String[]{"커피추출액", "우유", "설탕"}),
+            new Category("빵", 2300, new String[]{"밀가루", "버터", "설탕", "효모"}),
+            new Category("간편식", 4500, new String[]{"닭고기", "양파", "간장", "마늘"}),
+            new Category("샐러드", 4900, new String[]{"양상추", "방울토마토", "닭가슴살", "드레싱"}),
+            new Category("젤리", 1500, new String[]{"물엿", "설탕", "젤라틴", "과즙"}),
+            new Category("초콜릿", 2000, new String[]{"코코아매스", "설탕", "코코아버터", "전지분유"}),
+            new Category("햄버거", 3900, new String[]{"번", "소고기패티", "치즈", "피클"}),
+            new Category("김밥", 3000, new String[]{"쌀", "김", "단무지", "햄", "시금치"}),
+            new Category("주류", 3500, new String[]{"정제수", "맥아", "홉"}),
+            new Category("즉석밥", 1900, new String[]{"쌀", "정제수"}),
+            new Category("생활용품", 3000, new String[]{})
+    };
+
+    private static final String[] FLAVORS = {
+            "불닭", "치즈", "매콤", "달콤", "흑당", "말차", "딸기", "바나나", "초코", "허니버터",
+            "마라", "트러플", "크림", "갈릭", "참깨", "김치", "불고기", "새우", "망고", "레몬",
+            "로제", "청양", "콘치즈", "고구마", "흑임자", "유자", "쑥", "카라멜", "피스타치오", "명란"
+    };
+    private static final String[] EDITIONS = {"", "", "", " 리뉴얼", " 시즌 한정", " 대용량", " 미니", " 프리미엄", " 제로"};
+    private static final String[] REGIONS = {"전국", "서울/경기", "수도권", "영남권", "호남권", "충청권", "제주"};
+
+    private final ZipfSampler storeSampler;
+    private final ZipfSampler categorySampler;
+    private final List<String> storeNames;
+    private final LocalDate today = LocalDate.now();
+
+    SeedDataGenerator(List<String> storeNames, SeedProperties properties) {
+        this.storeNames = storeNames;
+        this.storeSampler = new ZipfSampler(storeNames.size(), properties.getStoreSkew());
+        this.categorySampler = new ZipfSampler(CATEGORIES.length, properties.getCategorySkew());
+    }
+
+    // Real chains first, so they take the head of the size distribution
+    static List<String> storeNames(int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i < CHAINS.length) {
+                names.add(CHAINS[i]);
+            } else {
+                int n = i - CHAINS.length;
+                names.add(BRAND_PREFIXES[n % BRAND_PREFIXES.length]
+                        + BRAND_SUFFIXES[(n / BRAND_PREFIXES.length) % BRAND_SUFFIXES.length]
+                        + " " + (n / (BRAND_PREFIXES.length * BRAND_SUFFIXES.length) + 1) + "호점");
+            }
+        }
+        return names;
+    }
+
+    Product product(SplittableRandom random) {
+        Category category = CATEGORIES[categorySampler.sample(random)];
+        String store = storeNames.get(storeSampler.sample(random));
+        String flavor = FLAVORS[random.nextInt(FLAVORS.length)];
+        String secondFlavor = random.nextInt(4) == 0 ? FLAVORS[random.nextInt(FLAVORS.length)] + " " : "";
+        String name = flavor + " " + secondFlavor + category.name() + EDITIONS[random.nextInt(EDITIONS.length)];
+
+        // Log-normal around the category level, rounded to 100 won
+        double factor = Math.exp(gaussian(random) * 0.35);
+        int price = Math.max(500, (int) Math.round(category.basePrice() * factor / 100.0) * 100);
+
+        // Squaring biases release dates toward today; about two years of history
+        double recency = random.nextDouble();
+        LocalDate releaseDate = today.minusDays((long) (recency * recency * 730));
+        LocalDateTime createdAt = releaseDate.atStartOfDay()
+                .minusDays(random.nextInt(7))
+                .plusSeconds(random.nextInt(86_400))
+                .plusNanos(random.nextInt(1_000_000) * 1_000L);
+
+        String ingredients = category.ingredients().length == 0 ? null
+                : String.join(", ", category.ingredients()) + ", " + flavor + "맛 소스";
+        String description = flavor + " 풍미를 살린 " + store + " " + category.name() + " 신상품";
+        String barcode = random.nextInt(10) < 6 ? String.format("880%010d", random.nextLong(10_000_000_000L)) : null;
+
+        // Long-tailed views: most products are barely seen, a few are very popular
+        int views = (int) Math.min(5_000_000, Math.exp(3 + gaussian(random) * 1.6));
+
+        int roll = random.nextInt(100);
+        String status = roll < 90 ? "APPROVED" : roll < 97 ? "PENDING" : "REJECTED";
+
+        return new Product(name, store, price, category.name(), releaseDate, description, ingredients, barcode,
+                REGIONS[random.nextInt(REGIONS.length)], status, views, createdAt);
+    }
+
+    record Product(String name, String store, int price, String category, LocalDate releaseDate,
+                   String description, String ingredients, String barcode, String location,
+                   String status, int views, LocalDateTime createdAt) {
+    }
+
+    private static double gaussian(SplittableRandom random) {
+        // Box-Muller; SplittableRandom has no nextGaussian
+        double u1 = 1.0 - random.nextDouble();
+        double u2 = random.nextDouble();
+        return Math.sqrt(-2 * Math.log(u1)) * Math.cos(2 * Math.PI * u2);
+    }
+}
@@ -0,0 +1,29 @@
+package com.trendTaster.seed;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "seed")
+public class SeedProperties {
+
+    private int users = 5_000;
+    private int stores = 60;
+    private int products = 1_000_000;
+    private int maxImagesPerProduct = 5;
+
+    // Products per COPY round trip; each worker holds one chunk of rows in memory
+    private int chunkSize = 20_000;
+    private int threads = 4;
+
+    // Same seed, same data (apart from the per-run suffix on user names)
+    private long randomSeed = 20240101L;
+
+    // Zipf exponents: how strongly a few stores and categories dominate the catalog
+    private double storeSkew = 1.1;
+    private double categorySkew = 0.8;
+
+    private String userPassword = "password123!";
+}
@@ -1,14 +1,24 @@
 package com.trendTaster.service;
 
+import com.trendTaster.config.ReplicaRoutingDataSource;
+import com.trendTaster.domain.RefreshToken;
 import com.trendTaster.domain.User;
 import com.trendTaster.dto.AuthDto;
+import com.trendTaster.repository.RefreshTokenRepository;
 import com.trendTaster.repository.UserRepository;
 import com.trendTaster.security.JwtTokenProvider;
+import com.trendTaster.security.PasswordHasher;
+import com.trendTaster.security.RevokedSessionRegistry;
+import com.trendTaster.security.TokenHashes;
+import com.trendTaster.security.TokenVersionRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
 
 @Slf4j
 @Service
@@ -17,10 +27,16 @@ import org.springframework.transaction.annotation.Transactional;
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
+    private final PasswordHasher passwordHasher;
     private final JwtTokenProvider jwtTokenProvider;
+    private final TokenVersionRegistry tokenVersionRegistry;
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final RevokedSessionRegistry revokedSessionRegistry;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    // BCrypt runs on PasswordHasher's pool with no transaction open, so a slow hash never holds a
+    // connection; only the writes afterwards run in a transaction
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthDto.AuthResponse register(AuthDto.RegisterRequest request) {
         // Check if email already exists
         if (userRepository.existsByEmail(request.getEmail())) {
@@ -32,46 +48,112 @@ public class AuthService {
             throw new IllegalArgumentException("이미 사용 중인 사용자명입니다");
         }
 
-        // Create user
-        User user = User.builder()
-                .username(request.getUsername())
-                .email(request.getEmail())
-                .password(passwordEncoder.encode(request.getPassword()))
-                .role(User.UserRole.USER)
-                .build();
-
-        user = userRepository.save(user);
+        String encodedPassword = passwordHasher.encode(request.getPassword());
 
-        // Generate token
-        String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail());
+        return transactionTemplate.execute(status -> {
+            // Create user
+            User user = User.builder()
+                    .username(request.getUsername())
+                    .email(request.getEmail())
+                    .password(encodedPassword)
+                    .role(User.UserRole.USER)
+                    .build();
 
-        return AuthDto.AuthResponse.builder()
-                .token(token)
-                .user(AuthDto.UserResponse.from(user))
-                .build();
+            return startSession(userRepository.save(user));
+        });
     }
 
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public AuthDto.AuthResponse login(AuthDto.LoginRequest request) {
-        // Find user by email
-        User user = userRepository.findByEmail(request.getEmail())
+        // Find user by email. The primary has the current token_version; a replica still behind a
+        // logout-all would put a stale one into the issued token, which TokenVersionRegistry then rejects
+        User user = ReplicaRoutingDataSource.readFromPrimary(() -> userRepository.findByEmail(request.getEmail()))
                 .orElseThrow(() -> new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다"));
 
         // Verify password
-        if (!passwordEncoder.matches(request.getPassword(), user.getPassword())) {
+        if (!passwordHasher.matches(request.getPassword(), user.getPassword())) {
             throw new IllegalArgumentException("이메일 또는 비밀번호가 올바르지 않습니다");
         }
 
-        // Generate token
-        String token = jwtTokenProvider.generateToken(user.getId(), user.getEmail());
+        // Hashes made under a lower bcrypt-strength are upgraded while the plain password is at hand
+        String upgradedPassword = passwordHasher.needsRehash(user.getPassword())
+                ? passwordHasher.encode(request.getPassword())
+                : null;
+
+        return transactionTemplate.execute(status -> {
+            if (upgradedPassword != null) {
+                userRepository.updatePassword(user.getId(), user.getPassword(), upgradedPassword);
+            }
+            return startSession(user);
+        });
+    }
+
+    // Rotates the refresh token: the presented one is spent, the next one continues the same session.
+    // Rejections that revoke the session must still commit, hence noRollbackFor.
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public AuthDto.AuthResponse refresh(String refreshToken) {
+        RefreshToken current = refreshTokenRepository.findByTokenHashWithUser(TokenHashes.sha256Hex(refreshToken))
+                .orElseThrow(() -> new IllegalArgumentException("유효하지 않은 리프레시 토큰입니다"));
+        User user = current.getUser();
+
+        if (current.getRevoked() || current.isExpired()) {
+            throw new IllegalArgumentException("만료되었거나 로그아웃된 세션입니다. 다시 로그인해주세요");
+        }
+        if (current.getTokenVersion() < user.getTokenVersion()) {
+            revokeSession(current.getSessionId());
+            throw new IllegalArgumentException("만료되었거나 로그아웃된 세션입니다. 다시 로그인해주세요");
+        }
+        // Spent tokens are only presented again if one leaked; end the session for both holders
+        if (refreshTokenRepository.markUsed(current.getId()) == 0) {
+            log.warn("Refresh token reuse detected for user {}, revoking session {}", user.getId(), current.getSessionId());
+            revokeSession(current.getSessionId());
+            throw new IllegalArgumentException("만료되었거나 로그아웃된 세션입니다. 다시 로그인해주세요");
+        }
+
+        return issueTokens(user, current.getSessionId());
+    }
+
+    @Transactional
+    public void logout(String refreshToken) {
+        refreshTokenRepository.findByTokenHashWithUser(TokenHashes.sha256Hex(refreshToken))
+                .ifPresent(token -> revokeSession(token.getSessionId()));
+    }
+
+    // The principal is built from token claims, so timestamps come from the users row
+    public AuthDto.UserResponse getCurrentUser(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다"));
+        return AuthDto.UserResponse.from(user);
+    }
+
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logoutEverywhere(Long userId) {
+        tokenVersionRegistry.revoke(userId);
+    }
+
+    private AuthDto.AuthResponse startSession(User user) {
+        return issueTokens(user, UUID.randomUUID().toString());
+    }
+
+    private AuthDto.AuthResponse issueTokens(User user, String sessionId) {
+        String refreshToken = TokenHashes.newOpaqueToken();
+        refreshTokenRepository.save(RefreshToken.builder()
+                .tokenHash(TokenHashes.sha256Hex(refreshToken))
+                .sessionId(sessionId)
+                .user(user)
+                .tokenVersion(user.getTokenVersion())
+                .expiresAt(jwtTokenProvider.refreshTokenExpiresAt())
+                .build());
 
         return AuthDto.AuthResponse.builder()
-                .token(token)
+                .token(jwtTokenProvider.generateToken(user, sessionId))
+                .refreshToken(refreshToken)
                 .user(AuthDto.UserResponse.from(user))
                 .build();
     }
 
-    public AuthDto.UserResponse getCurrentUser(User user) {
-        return AuthDto.UserResponse.from(user);
+    private void revokeSession(String sessionId) {
+        refreshTokenRepository.revokeSession(sessionId);
+        revokedSessionRegistry.markRevoked(sessionId);
     }
 }
@@ -0,0 +1,98 @@
+package com.trendTaster.service;
+
+import com.trendTaster.config.ReplicaRoutingDataSource;
+import com.trendTaster.event.ProductChangedEvent;
+import com.trendTaster.repository.ProductRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+// Barcode -> approved product id, with negative entries for unknown codes so repeated
+// shelf scans never reach Postgres. Positive entries live until a product change evicts them;
+// negative entries also expire after a TTL.
+@Component
+public class BarcodeLookupCache {
+
+    private static final long NOT_FOUND = -1;
+
+    private final ProductRepository productRepository;
+    private final long negativeTtlMillis;
+
+    // Guarded by this
+    private final Map<String, Entry> entries;
+    private final Map<Long, String> barcodeByProductId = new HashMap<>();
+    private long generation;
+
+    public BarcodeLookupCache(ProductRepository productRepository,
+                              @Value("${product.barcode-cache.max-entries:100000}") int maxEntries,
+                              @Value("${product.barcode-cache.negative-ttl-ms:600000}") long negativeTtlMillis) {
+        this.productRepository = productRepository;
+        this.negativeTtlMillis = negativeTtlMillis;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() <= maxEntries) {
+                    return false;
+                }
+                barcodeByProductId.remove(eldest.getValue().productId());
+                return true;
+            }
+        };
+    }
+
+    private record Entry(long productId, long expiresAt) {
+    }
+
+    public Optional<Long> resolve(String barcode) {
+        long readGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(barcode);
+            if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+                return entry.productId() != NOT_FOUND ? Optional.of(entry.productId()) : Optional.empty();
+            }
+            readGeneration = generation;
+        }
+
+        // Answers are kept for minutes (misses) or indefinitely (hits), so never take them from a lagging replica
+        List<Long> ids = ReplicaRoutingDataSource.readFromPrimary(() ->
+                productRepository.findApprovedIdsByBarcode(barcode, PageRequest.of(0, 1)));
+        Long productId = ids.isEmpty() ? null : ids.get(0);
+
+        synchronized (this) {
+            // Skip caching if a product change committed while the query was in flight
+            if (readGeneration == generation) {
+                if (productId != null) {
+                    entries.put(barcode, new Entry(productId, Long.MAX_VALUE));
+                    barcodeByProductId.put(productId, barcode);
+                } else {
+                    entries.put(barcode, new Entry(NOT_FOUND, System.currentTimeMillis() + negativeTtlMillis));
+                }
+            }
+        }
+        return Optional.ofNullable(productId);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        // A newly approved product may answer a code that is cached as unknown
+        Optional<String> approvedBarcode = event.getType() == ProductChangedEvent.ChangeType.APPROVED
+                ? productRepository.findBarcodeById(event.getProductId())
+                : Optional.empty();
+
+        synchronized (this) {
+            generation++;
+            String cachedBarcode = barcodeByProductId.remove(event.getProductId());
+            if (cachedBarcode != null) {
+                entries.remove(cachedBarcode);
+            }
+            approvedBarcode.ifPresent(entries::remove);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+package com.trendTaster.service;
+
+import com.trendTaster.config.ReplicaRoutingDataSource;
+import com.trendTaster.dto.ContentVersion;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.event.ProductChangedEvent;
+import com.trendTaster.event.StoreChangedEvent;
+import com.trendTaster.repository.ProductRepository;
+import com.trendTaster.repository.StoreRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+// In-process snapshot of /api/products/filters, rebuilt only after catalog changes commit.
+// Changes within the debounce window collapse into a single rebuild.
+@Slf4j
+@Component
+public class FilterOptionsCache {
+
+    private final StoreRepository storeRepository;
+    private final ProductRepository productRepository;
+    private final long debounceMillis;
+    private final ScheduledExecutorService rebuildExecutor =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("filter-options-rebuild").daemon().factory());
+
+    private volatile Snapshot snapshot;
+    private ScheduledFuture<?> pendingRebuild;
+
+    public FilterOptionsCache(StoreRepository storeRepository,
+                              ProductRepository productRepository,
+                              @Value("${product.filters.rebuild-debounce-ms:500}") long debounceMillis) {
+        this.storeRepository = storeRepository;
+        this.productRepository = productRepository;
+        this.debounceMillis = debounceMillis;
+    }
+
+    private record Snapshot(ProductDto.FilterOptions options, ContentVersion version) {
+    }
+
+    public ProductDto.FilterOptions get() {
+        return current().options();
+    }
+
+    public ContentVersion getVersion() {
+        return current().version();
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                if (snapshot == null) {
+                    snapshot = load();
+                }
+                current = snapshot;
+            }
+        }
+        return current;
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    @TransactionalEventListener
+    public void onStoreChanged(StoreChangedEvent event) {
+        scheduleRebuild();
+    }
+
+    private synchronized void scheduleRebuild() {
+        if (pendingRebuild != null) {
+            pendingRebuild.cancel(false);
+        }
+        pendingRebuild = rebuildExecutor.schedule(this::rebuild, debounceMillis, TimeUnit.MILLISECONDS);
+    }
+
+    private void rebuild() {
+        try {
+            Snapshot rebuilt = load();
+            Snapshot previous = snapshot;
+            boolean unchanged = previous != null && previous.version().getTag().equals(rebuilt.version().getTag());
+            snapshot = unchanged ? new Snapshot(rebuilt.options(), previous.version()) : rebuilt;
+            log.debug("Filter options rebuilt");
+        } catch (Exception e) {
+            log.warn("Failed to rebuild filter options, serving the previous snapshot", e);
+        }
+    }
+
+    private Snapshot load() {
+        // Rebuilds follow an approval, which a replica may not have replayed yet
+        List<String> stores = ReplicaRoutingDataSource.readFromPrimary(storeRepository::findApprovedNames);
+        List<String> categories = ReplicaRoutingDataSource.readFromPrimary(productRepository::findDistinctCategories);
+        ProductDto.FilterOptions options = ProductDto.FilterOptions.builder()
+                .stores(stores)
+                .categories(categories)
+                .build();
+        // Content hash keeps the ETag stable across rebuilds and instances while the lists are unchanged
+        String tag = "filters-" + Integer.toHexString(Objects.hash(stores, categories));
+        return new Snapshot(options, new ContentVersion(tag, System.currentTimeMillis()));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,52 @@
+package com.trendTaster.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+// Short-lived totals per filter combination so page turns don't re-run the full COUNT(*).
+// Totals may lag behind approvals by up to the TTL, which is acceptable for pagination UIs.
+@Component
+public class ProductCountCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, CachedCount> counts = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public ProductCountCache(@Value("${product.count-cache.ttl-ms:30000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    private record CachedCount(long value, long expiresAt) {
+    }
+
+    public long get(List<String> stores, List<String> categories, Integer minPrice, Integer maxPrice, LongSupplier counter) {
+        String key = signature(stores, categories, minPrice, maxPrice);
+        long now = System.currentTimeMillis();
+        CachedCount cached = counts.get(key);
+        if (cached != null && cached.expiresAt() > now) {
+            return cached.value();
+        }
+
+        long value = counter.getAsLong();
+        if (counts.size() >= MAX_ENTRIES) {
+            counts.values().removeIf(entry -> entry.expiresAt() <= now);
+            if (counts.size() >= MAX_ENTRIES) {
+                counts.clear();
+            }
+        }
+        counts.put(key, new CachedCount(value, now + ttlMillis));
+        return value;
+    }
+
+    static String signature(List<String> stores, List<String> categories, Integer minPrice, Integer maxPrice) {
+        return (stores != null ? stores.stream().sorted().toList() : "*") + "|"
+                + (categories != null ? categories.stream().sorted().toList() : "*") + "|"
+                + minPrice + "|" + maxPrice;
+    }
+}
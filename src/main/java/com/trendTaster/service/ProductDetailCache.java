@@ -0,0 +1,104 @@
+package com.trendTaster.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendTaster.config.ReplicaRoutingDataSource;
+import com.trendTaster.dto.ContentVersion;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.event.ProductChangedEvent;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+// Product detail responses kept as serialized UTF-8 JSON, so a hit skips the entity load,
+// the DTO mapping and Jackson. Entries carry the product's updatedAt version and are dropped on
+// approve/reject/delete; the TTL bounds how stale the embedded view count can get.
+@Component
+public class ProductDetailCache {
+
+    private final ObjectMapper objectMapper;
+    private final long maxBytes;
+    private final long ttlMillis;
+
+    // Guarded by this
+    private final LinkedHashMap<Long, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long totalBytes;
+    private long generation;
+
+    public ProductDetailCache(ObjectMapper objectMapper,
+                              @Value("${product.detail-cache.max-bytes:33554432}") long maxBytes,
+                              @Value("${product.detail-cache.ttl-ms:30000}") long ttlMillis) {
+        this.objectMapper = objectMapper;
+        this.maxBytes = maxBytes;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public record Detail(byte[] body, ContentVersion version) {
+    }
+
+    public record Source(ProductDto.Response response, ContentVersion version) {
+    }
+
+    private record Entry(Detail detail, long expiresAt) {
+    }
+
+    public Detail get(Long productId, Supplier<Source> loader) {
+        long readGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(productId);
+            if (entry != null && entry.expiresAt() > System.currentTimeMillis()) {
+                return entry.detail();
+            }
+            readGeneration = generation;
+        }
+
+        // A miss usually follows an eviction by a product change; a replica might still serve the old row
+        Source source = ReplicaRoutingDataSource.readFromPrimary(loader);
+        Detail detail = new Detail(serialize(source.response()), source.version());
+
+        synchronized (this) {
+            // Skip caching if a product change committed while the load was in flight
+            if (readGeneration == generation && detail.body().length <= maxBytes) {
+                remove(productId);
+                entries.put(productId, new Entry(detail, System.currentTimeMillis() + ttlMillis));
+                totalBytes += detail.body().length;
+                evictOverflow();
+            }
+        }
+        return detail;
+    }
+
+    @TransactionalEventListener
+    public synchronized void onProductChanged(ProductChangedEvent event) {
+        generation++;
+        remove(event.getProductId());
+    }
+
+    private void remove(Long productId) {
+        Entry removed = entries.remove(productId);
+        if (removed != null) {
+            totalBytes -= removed.detail().body().length;
+        }
+    }
+
+    private void evictOverflow() {
+        Iterator<Map.Entry<Long, Entry>> eldest = entries.entrySet().iterator();
+        while (totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().getValue().detail().body().length;
+            eldest.remove();
+        }
+    }
+
+    private byte[] serialize(ProductDto.Response response) {
+        try {
+            return objectMapper.writeValueAsBytes(response);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("제품 응답을 직렬화할 수 없습니다", e);
+        }
+    }
+}
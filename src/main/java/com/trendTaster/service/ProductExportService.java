@@ -0,0 +1,71 @@
+package com.trendTaster.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trendTaster.domain.Product;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.repository.ProductRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Stream;
+
+// Writes the approved catalog as NDJSON while reading it through a database cursor. Rows are
+// handled in fixed-size chunks (one image IN query each) and the persistence context is cleared
+// after every chunk, so heap use does not grow with the catalog. It runs on the MVC async thread
+// under product.export.timeout-ms, so its statements are not counted in the request's SqlStats.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductExportService {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ProductRepository productRepository;
+    private final ProductResponseAssembler responseAssembler;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportApprovedProducts(OutputStream out) throws IOException {
+        // Flushed once per chunk rather than once per row
+        ObjectWriter writer = objectMapper.writerFor(ProductDto.Response.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        long exported = 0;
+
+        try (Stream<Product> products = productRepository.streamAllApproved();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(out)) {
+            // The servlet container owns the response stream
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+
+            List<Product> chunk = new ArrayList<>(CHUNK_SIZE);
+            Iterator<Product> iterator = products.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == CHUNK_SIZE || !iterator.hasNext()) {
+                    for (ProductDto.Response response : responseAssembler.toResponses(chunk)) {
+                        writer.writeValue(generator, response);
+                        generator.writeRaw('\n');
+                    }
+                    generator.flush();
+                    exported += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        }
+
+        log.info("Exported {} approved products", exported);
+        return exported;
+    }
+}
@@ -0,0 +1,48 @@
+package com.trendTaster.service;
+
+import com.trendTaster.dto.ProductDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Facet counts per filter combination. Index-backed entries are tagged with the catalog index version
+// and reused until the index changes; fallback entries (version -1) expire after the count-cache TTL.
+@Component
+public class ProductFacetCache {
+
+    private static final int MAX_ENTRIES = 1024;
+
+    private final Map<String, CachedFacets> entries = new ConcurrentHashMap<>();
+    private final long ttlMillis;
+
+    public ProductFacetCache(@Value("${product.count-cache.ttl-ms:30000}") long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    private record CachedFacets(ProductDto.Facets facets, long version, long expiresAt) {
+    }
+
+    public ProductDto.Facets get(List<String> stores, List<String> categories, Integer minPrice, Integer maxPrice,
+                                 long version, Supplier<ProductDto.Facets> loader) {
+        String key = ProductCountCache.signature(stores, categories, minPrice, maxPrice);
+        long now = System.currentTimeMillis();
+        CachedFacets cached = entries.get(key);
+        if (cached != null && cached.version() == version && (version >= 0 || cached.expiresAt() > now)) {
+            return cached.facets();
+        }
+
+        ProductDto.Facets facets = loader.get();
+        if (entries.size() >= MAX_ENTRIES) {
+            entries.values().removeIf(entry -> entry.version() != version || entry.expiresAt() <= now);
+            if (entries.size() >= MAX_ENTRIES) {
+                entries.clear();
+            }
+        }
+        entries.put(key, new CachedFacets(facets, version, now + ttlMillis));
+        return facets;
+    }
+}
@@ -0,0 +1,77 @@
+package com.trendTaster.service;
+
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.ProductImage;
+import com.trendTaster.dto.ContentVersion;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.repository.ProductImageRepository;
+import com.trendTaster.repository.ProductRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Builds list responses in a fixed number of queries: the caller's page query (submitter fetch-joined)
+// plus one IN query for every image on the page, instead of two lazy loads per row
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class ProductResponseAssembler {
+
+    private final ProductRepository productRepository;
+    private final ProductImageRepository productImageRepository;
+
+    public List<ProductDto.Response> toResponses(List<Product> products) {
+        if (products.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, List<ProductImage>> imagesByProduct = loadImages(products.stream().map(Product::getId).toList());
+        return products.stream()
+                .map(product -> ProductDto.Response.from(product, imagesByProduct.getOrDefault(product.getId(), List.of())))
+                .toList();
+    }
+
+    // Hydrates ids into responses, preserving the given order and skipping ids that no longer exist
+    public List<ProductDto.Response> findResponses(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Product> byId = productRepository.findAllWithSubmitterByIdIn(ids).stream()
+                .collect(Collectors.toMap(Product::getId, Function.identity()));
+        List<Product> ordered = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            Product product = byId.get(id);
+            if (product != null) {
+                ordered.add(product);
+            }
+        }
+        return toResponses(ordered);
+    }
+
+    // Single detail response together with the version it was built from
+    public Optional<ProductDetailCache.Source> findDetail(Long id) {
+        return productRepository.findAllWithSubmitterByIdIn(List.of(id)).stream()
+                .findFirst()
+                .map(product -> new ProductDetailCache.Source(
+                        ProductDto.Response.from(product, loadImages(List.of(id)).getOrDefault(id, List.of())),
+                        ContentVersion.of("product-" + id, product.getUpdatedAt())));
+    }
+
+    private Map<Long, List<ProductImage>> loadImages(Collection<Long> productIds) {
+        Map<Long, List<ProductImage>> imagesByProduct = new HashMap<>();
+        for (ProductImage image : productImageRepository.findByProductIds(productIds)) {
+            imagesByProduct.computeIfAbsent(image.getProduct().getId(), id -> new ArrayList<>()).add(image);
+        }
+        return imagesByProduct;
+    }
+}
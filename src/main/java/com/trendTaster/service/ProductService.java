@@ -3,17 +3,32 @@ package com.trendTaster.service;
 import com.trendTaster.domain.Product;
 import com.trendTaster.domain.ProductImage;
 import com.trendTaster.domain.User;
+import com.trendTaster.dto.ContentVersion;
 import com.trendTaster.dto.ProductDto;
+import com.trendTaster.event.ProductChangedEvent;
 import com.trendTaster.repository.ProductRepository;
+import com.trendTaster.service.catalog.CatalogIndex;
+import com.trendTaster.service.catalog.FacetCounts;
+import com.trendTaster.service.search.ProductSearchIndex;
+import com.trendTaster.service.trending.TrendingTracker;
+import com.trendTaster.service.trending.TrendingWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -21,8 +36,21 @@ import java.util.List;
 @Transactional(readOnly = true)
 public class ProductService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ProductRepository productRepository;
     private final StoreService storeService;
+    private final ProductResponseAssembler responseAssembler;
+    private final ProductViewCounter viewCounter;
+    private final FilterOptionsCache filterOptionsCache;
+    private final CatalogIndex catalogIndex;
+    private final ProductCountCache countCache;
+    private final ProductFacetCache facetCache;
+    private final ProductSearchIndex searchIndex;
+    private final BarcodeLookupCache barcodeLookupCache;
+    private final TrendingTracker trendingTracker;
+    private final ProductDetailCache detailCache;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Page<ProductDto.Response> getProducts(
             List<String> stores,
@@ -31,17 +59,179 @@ public class ProductService {
             Integer maxPrice,
             Pageable pageable
     ) {
-        Page<Product> products = productRepository.findByFilters(stores, categories, minPrice, maxPrice, pageable);
-        return products.map(ProductDto.Response::from);
+        // Answered from the in-memory catalog index once it is loaded; only the page's ids hit the database
+        Optional<CatalogIndex.Result> indexed = catalogIndex.query(
+                stores, categories, minPrice, maxPrice, pageable.getOffset(), pageable.getPageSize());
+        if (indexed.isPresent()) {
+            CatalogIndex.Result result = indexed.get();
+            return new PageImpl<>(responseAssembler.findResponses(result.getIds()), pageable, result.getTotal());
+        }
+
+        // Fallback: count-free slice plus a short-lived cached total instead of a COUNT per page turn
+        Slice<Product> products = productRepository.findSliceByFilters(stores, categories, minPrice, maxPrice, pageable);
+        long total = countCache.get(stores, categories, minPrice, maxPrice,
+                () -> productRepository.countByFilters(stores, categories, minPrice, maxPrice));
+        return new PageImpl<>(responseAssembler.toResponses(products.getContent()), pageable, total);
     }
 
-    @Transactional
-    public ProductDto.Response getProductById(Long id) {
-        Product product = productRepository.findById(id)
-                .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다"));
+    public ProductDto.Facets getFacets(List<String> stores, List<String> categories, Integer minPrice, Integer maxPrice) {
+        // Read the version first so a change racing the computation only makes the entry miss next time
+        long version = catalogIndex.getVersion();
+        return facetCache.get(stores, categories, minPrice, maxPrice, version,
+                () -> catalogIndex.facets(stores, categories, minPrice, maxPrice)
+                        .orElseGet(() -> countFacets(stores, categories, minPrice, maxPrice)));
+    }
 
-        product.incrementViews();
-        return ProductDto.Response.from(product);
+    private static void validatePageSize(int size) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new IllegalArgumentException("페이지 크기는 1에서 " + MAX_PAGE_SIZE + " 사이여야 합니다");
+        }
+    }
+
+    private ProductDto.Facets countFacets(List<String> stores, List<String> categories, Integer minPrice, Integer maxPrice) {
+        boolean filterStores = stores != null && !stores.isEmpty();
+        boolean filterCategories = categories != null && !categories.isEmpty();
+        // IN () is not valid SQL, so an unused list filter still binds one placeholder value
+        List<Object[]> rows = productRepository.countFacetsByFilters(
+                filterStores, filterStores ? stores : List.of(""),
+                filterCategories, filterCategories ? categories : List.of(""),
+                minPrice, maxPrice);
+
+        FacetCounts counts = new FacetCounts();
+        for (Object[] row : rows) {
+            int level = ((Number) row[3]).intValue();
+            switch (level) {
+                case 3 -> counts.addStore((String) row[0], ((Number) row[4]).longValue());
+                case 5 -> counts.addCategory((String) row[1], ((Number) row[5]).longValue());
+                case 6 -> counts.addPriceBucket(((Number) row[2]).intValue(), ((Number) row[6]).longValue());
+                case 7 -> counts.addTotal(((Number) row[7]).longValue());
+                default -> throw new IllegalStateException("Unexpected grouping level " + level);
+            }
+        }
+        return counts.toResponse();
+    }
+
+    public Slice<ProductDto.Response> getProductSlice(
+            List<String> stores,
+            List<String> categories,
+            Integer minPrice,
+            Integer maxPrice,
+            Pageable pageable
+    ) {
+        Optional<CatalogIndex.Result> indexed = catalogIndex.query(
+                stores, categories, minPrice, maxPrice, pageable.getOffset(), pageable.getPageSize());
+        if (indexed.isPresent()) {
+            CatalogIndex.Result result = indexed.get();
+            boolean hasNext = pageable.getOffset() + pageable.getPageSize() < result.getTotal();
+            return new SliceImpl<>(responseAssembler.findResponses(result.getIds()), pageable, hasNext);
+        }
+
+        Slice<Product> products = productRepository.findSliceByFilters(stores, categories, minPrice, maxPrice, pageable);
+        return new SliceImpl<>(responseAssembler.toResponses(products.getContent()), pageable, products.hasNext());
+    }
+
+    // Empty until the search index has finished its initial load
+    public Optional<Page<ProductDto.Response>> searchProducts(
+            String query,
+            List<String> stores,
+            List<String> categories,
+            Integer minPrice,
+            Integer maxPrice,
+            Pageable pageable
+    ) {
+        if (!StringUtils.hasText(query)) {
+            throw new IllegalArgumentException("검색어를 입력해주세요");
+        }
+        return searchIndex.search(query, stores, categories, minPrice, maxPrice, pageable.getOffset(), pageable.getPageSize())
+                .map(result -> new PageImpl<>(responseAssembler.findResponses(result.getIds()), pageable, result.getTotal()));
+    }
+
+    public ProductDto.CursorPage getProductsByCursor(
+            List<String> stores,
+            List<String> categories,
+            Integer minPrice,
+            Integer maxPrice,
+            String cursor,
+            int size
+    ) {
+        validatePageSize(size);
+        // Fetch one extra row to learn whether another page exists without counting
+        Pageable limit = PageRequest.of(0, size + 1);
+        List<Product> products;
+        if (StringUtils.hasText(cursor)) {
+            ProductCursor after = ProductCursor.decode(cursor);
+            products = productRepository.findNextByFilters(stores, categories, minPrice, maxPrice,
+                    after.getCreatedAt(), after.getId(), limit);
+        } else {
+            products = productRepository.findFirstByFilters(stores, categories, minPrice, maxPrice, limit);
+        }
+
+        boolean hasNext = products.size() > size;
+        List<Product> page = hasNext ? products.subList(0, size) : products;
+
+        return ProductDto.CursorPage.builder()
+                .content(responseAssembler.toResponses(page))
+                .nextCursor(hasNext ? ProductCursor.of(page.get(page.size() - 1)).encode() : null)
+                .hasNext(hasNext)
+                .size(page.size())
+                .build();
+    }
+
+    // Version probes for conditional GETs; they run before any list or DTO is built
+
+    public ContentVersion getCatalogVersion() {
+        return catalogIndex.getContentVersion()
+                .orElseGet(productRepository::findApprovedVersion);
+    }
+
+    public ContentVersion getFilterOptionsVersion() {
+        return filterOptionsCache.getVersion();
+    }
+
+    public void recordView(Long id) {
+        viewCounter.increment(id);
+        trendingTracker.record(id);
+    }
+
+    // No surrounding transaction: a cache hit never borrows a connection, a miss loads through the assembler
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductDetailCache.Detail getProductDetail(Long id) {
+        ProductDetailCache.Detail detail = cachedDetail(id);
+        // Views are buffered and flushed in batches, so the detail read stays read-only
+        recordView(id);
+        return detail;
+    }
+
+    private ProductDetailCache.Detail cachedDetail(Long id) {
+        return detailCache.get(id, () -> {
+            ProductDetailCache.Source source = responseAssembler.findDetail(id)
+                    .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다"));
+            ProductDto.Response response = source.response();
+            response.setViewsCount(response.getViewsCount() + (int) viewCounter.getPending(id));
+            return source;
+        });
+    }
+
+    public List<ProductDto.Response> getTrendingProducts(String window, int size) {
+        validatePageSize(size);
+        List<Long> ids = trendingTracker.getTop(TrendingWindow.fromCode(window), size).stream()
+                .map(TrendingTracker.TrendingItem::getProductId)
+                .toList();
+        // Views are recorded for any product id, so only approved ones are listed
+        return responseAssembler.findResponses(ids).stream()
+                .filter(response -> Product.ProductStatus.APPROVED.name().equalsIgnoreCase(response.getStatus()))
+                .toList();
+    }
+
+    // Both lookups are cached, so a repeated shelf scan touches neither Postgres nor Jackson
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public ProductDetailCache.Detail getProductByBarcode(String barcode) {
+        if (!StringUtils.hasText(barcode) || barcode.length() > 50) {
+            throw new IllegalArgumentException("유효하지 않은 바코드입니다");
+        }
+        Long id = barcodeLookupCache.resolve(barcode)
+                .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다"));
+        return cachedDetail(id);
     }
 
     @Transactional
@@ -107,18 +297,16 @@ public class ProductService {
         }
 
         productRepository.delete(product);
+        eventPublisher.publishEvent(new ProductChangedEvent(id, ProductChangedEvent.ChangeType.DELETED));
     }
 
     public List<ProductDto.Response> getPendingSubmissions() {
-        List<Product> products = productRepository.findAllPending();
-        return products.stream()
-                .map(ProductDto.Response::from)
-                .toList();
+        return responseAssembler.toResponses(productRepository.findAllPending());
     }
 
     public Page<ProductDto.Response> getPendingSubmissions(Pageable pageable) {
         Page<Product> products = productRepository.findAllPendingPageable(pageable);
-        return products.map(ProductDto.Response::from);
+        return new PageImpl<>(responseAssembler.toResponses(products.getContent()), pageable, products.getTotalElements());
     }
 
     @Transactional
@@ -127,6 +315,7 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다"));
 
         product.approve();
+        eventPublisher.publishEvent(new ProductChangedEvent(id, ProductChangedEvent.ChangeType.APPROVED));
         return ProductDto.Response.from(product);
     }
 
@@ -136,19 +325,11 @@ public class ProductService {
                 .orElseThrow(() -> new IllegalArgumentException("제품을 찾을 수 없습니다"));
 
         product.reject();
+        eventPublisher.publishEvent(new ProductChangedEvent(id, ProductChangedEvent.ChangeType.REJECTED));
     }
 
     public ProductDto.FilterOptions getFilterOptions() {
-        // Get approved stores from Store table
-        List<String> stores = storeService.getAllApprovedStores()
-                .stream()
-                .map(storeDto -> storeDto.getName())
-                .toList();
-        List<String> categories = productRepository.findDistinctCategories();
-
-        return ProductDto.FilterOptions.builder()
-                .stores(stores)
-                .categories(categories)
-                .build();
+        // Served from a snapshot that is rebuilt when products or stores change
+        return filterOptionsCache.get();
     }
 }
@@ -0,0 +1,137 @@
+package com.trendTaster.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Write-behind buffer for product views: detail reads only bump an in-memory cell and
+// the scheduler folds all pending deltas into one batched UPDATE.
+// Cells only ever count up and each remembers how much of its count is already in the database, so the
+// increment path takes no lock: a flush writes sum() minus the flushed part and advances that mark once
+// the transaction commits. Cells idle for a whole interval are evicted; an increment racing the eviction
+// lands in the retired cell, which the next flush still picks up.
+@Slf4j
+@Component
+public class ProductViewCounter {
+
+    private static final String FLUSH_SQL = "UPDATE products SET views_count = views_count + ? WHERE id = ?";
+
+    private final ConcurrentHashMap<Long, Cell> cells = new ConcurrentHashMap<>();
+    // Guarded by this. Cells evicted by earlier flushes that may still hold unflushed views
+    private List<Cell> retired = new ArrayList<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public ProductViewCounter(JdbcTemplate jdbcTemplate, TransactionTemplate transactionTemplate,
+                              MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        Gauge.builder("product.views.pending", this, ProductViewCounter::getPendingTotal)
+                .description("Product views buffered in memory and not yet flushed to the database")
+                .register(meterRegistry);
+    }
+
+    private static final class Cell {
+        private final Long productId;
+        private final LongAdder views = new LongAdder();
+        // Part of views already written; only advanced by flush
+        private volatile long flushed;
+
+        Cell(Long productId) {
+            this.productId = productId;
+        }
+
+        long unflushed() {
+            return views.sum() - flushed;
+        }
+    }
+
+    private record Delta(Cell cell, long total) {
+    }
+
+    public void increment(Long productId) {
+        Cell cell = cells.get(productId);
+        if (cell == null) {
+            cell = cells.computeIfAbsent(productId, Cell::new);
+        }
+        cell.views.increment();
+    }
+
+    public long getPending(Long productId) {
+        Cell cell = cells.get(productId);
+        return cell != null ? cell.unflushed() : 0;
+    }
+
+    public long getPendingTotal() {
+        long total = 0;
+        for (Cell cell : cells.values()) {
+            total += cell.unflushed();
+        }
+        return total;
+    }
+
+    @Scheduled(fixedDelayString = "${product.views.flush-interval-ms:5000}")
+    public synchronized void flush() {
+        List<Delta> deltas = new ArrayList<>();
+        List<Cell> idle = new ArrayList<>();
+        for (Cell cell : cells.values()) {
+            long total = cell.views.sum();
+            if (total != cell.flushed) {
+                deltas.add(new Delta(cell, total));
+            } else {
+                idle.add(cell);
+            }
+        }
+        for (Cell cell : retired) {
+            long total = cell.views.sum();
+            if (total != cell.flushed) {
+                deltas.add(new Delta(cell, total));
+            }
+        }
+
+        List<Object[]> batch = new ArrayList<>(deltas.size());
+        for (Delta delta : deltas) {
+            batch.add(new Object[]{delta.total() - delta.cell().flushed, delta.cell().productId});
+        }
+
+        try {
+            if (!batch.isEmpty()) {
+                // One transaction: either every delta is applied or none is, so a retry never double counts
+                transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batch));
+                log.debug("Flushed views for {} products", batch.size());
+            }
+            for (Delta delta : deltas) {
+                delta.cell().flushed = delta.total();
+            }
+            retired = new ArrayList<>();
+        } catch (DataAccessException | TransactionException e) {
+            // Nothing advanced, so the same deltas are written by the next run
+            log.warn("Failed to flush product views, keeping {} deltas for the next run", batch.size(), e);
+            retired = new ArrayList<>(retired.stream().filter(cell -> cell.unflushed() != 0).toList());
+        }
+
+        for (Cell cell : idle) {
+            if (cells.remove(cell.productId, cell)) {
+                retired.add(cell);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -2,10 +2,13 @@ package com.trendTaster.service;
 
 import com.trendTaster.domain.Store;
 import com.trendTaster.domain.User;
+import com.trendTaster.dto.ContentVersion;
 import com.trendTaster.dto.StoreDto;
+import com.trendTaster.event.StoreChangedEvent;
 import com.trendTaster.repository.StoreRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -20,6 +23,7 @@ import java.util.List;
 public class StoreService {
 
     private final StoreRepository storeRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public List<StoreDto.Response> getAllApprovedStores() {
         List<Store> stores = storeRepository.findAllApproved();
@@ -28,6 +32,10 @@ public class StoreService {
                 .toList();
     }
 
+    public ContentVersion getApprovedStoresVersion() {
+        return storeRepository.findApprovedVersion();
+    }
+
     public List<StoreDto.Response> getPendingStores() {
         List<Store> stores = storeRepository.findAllPending();
         return stores.stream()
@@ -99,6 +107,7 @@ public class StoreService {
         }
 
         storeRepository.delete(store);
+        eventPublisher.publishEvent(new StoreChangedEvent(id, StoreChangedEvent.ChangeType.DELETED));
         log.info("Store deleted: {} by user: {}", store.getName(), user.getUsername());
     }
 
@@ -112,6 +121,7 @@ public class StoreService {
         }
 
         store.approve(admin);
+        eventPublisher.publishEvent(new StoreChangedEvent(id, StoreChangedEvent.ChangeType.APPROVED));
         log.info("Store approved: {} by admin: {}", store.getName(), admin.getUsername());
         return StoreDto.Response.from(store);
     }
@@ -126,6 +136,7 @@ public class StoreService {
         }
 
         store.reject(admin, reason);
+        eventPublisher.publishEvent(new StoreChangedEvent(id, StoreChangedEvent.ChangeType.REJECTED));
         log.info("Store rejected: {} by admin: {} - Reason: {}", store.getName(), admin.getUsername(), reason);
         return StoreDto.Response.from(store);
     }
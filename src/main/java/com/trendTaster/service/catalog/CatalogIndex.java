@@ -0,0 +1,348 @@
+package com.trendTaster.service.catalog;
+
+import com.trendTaster.dto.CatalogEntry;
+import com.trendTaster.dto.ContentVersion;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.event.ProductChangedEvent;
+import com.trendTaster.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// In-process index of APPROVED products answering filter + page requests without touching Postgres.
+// Per-store and per-category bitmaps over list-ordered ordinals are intersected, prices are checked
+// against a primitive column, and only the ids on the requested page are hydrated by the caller.
+// Approvals land in a small sorted delta and removals in a tombstone bitmap until the next compaction.
+// Database lookups and compaction run outside writeLock, which only guards swapping snapshots.
+@Slf4j
+@Component
+public class CatalogIndex {
+
+    // Lookups racing other changes are retried this often before applying anyway
+    private static final int MAX_LOOKUP_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final int compactionThreshold;
+    private final long loadRetryMillis;
+    private final Object writeLock = new Object();
+    private final ScheduledExecutorService maintenanceExecutor =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("catalog-index").daemon().factory());
+
+    private volatile Snapshot snapshot;
+    private long loadedAt;
+    // Guarded by writeLock. Changes that arrive before the index is loaded; each load attempt clears it,
+    // since everything committed before the attempt's query is already in its result
+    private final List<Change> backlog = new ArrayList<>();
+    // Guarded by writeLock. Changes applied while a compaction runs, replayed onto its result; null when idle
+    private List<Change> changesDuringCompaction;
+    private long changeSequence;
+
+    public CatalogIndex(ProductRepository productRepository,
+                        @Value("${product.catalog-index.compaction-threshold:2048}") int compactionThreshold,
+                        @Value("${product.catalog-index.load-retry-ms:30000}") long loadRetryMillis) {
+        this.productRepository = productRepository;
+        this.compactionThreshold = compactionThreshold;
+        this.loadRetryMillis = loadRetryMillis;
+    }
+
+    // A change with its catalog row already looked up (null entry: not approved, or gone)
+    private record Change(ProductChangedEvent.ChangeType type, long productId, CatalogEntry entry) {
+    }
+
+    private record Snapshot(CatalogSegment base, RoaringBitmap removed, List<CatalogEntry> delta,
+                            long version, long changedAt) {
+
+        Snapshot next(CatalogSegment base, RoaringBitmap removed, List<CatalogEntry> delta) {
+            return new Snapshot(base, removed, delta, version + 1, System.currentTimeMillis());
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<Long> ids;
+        private final long total;
+    }
+
+    public boolean isReady() {
+        return snapshot != null;
+    }
+
+    // Bumped on every change; lets derived caches key themselves on the index state
+    public long getVersion() {
+        Snapshot current = snapshot;
+        return current != null ? current.version() : -1;
+    }
+
+    // Validator for whatever this instance currently serves; the load time keeps tags from
+    // colliding with those handed out before a restart
+    public Optional<ContentVersion> getContentVersion() {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        String tag = "catalog-" + Long.toHexString(loadedAt) + "-" + current.version();
+        return Optional.of(new ContentVersion(tag, current.changedAt()));
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        synchronized (writeLock) {
+            backlog.clear();
+        }
+        CatalogSegment base;
+        try {
+            base = CatalogSegment.build(productRepository.findCatalogEntries());
+        } catch (Exception e) {
+            // Listing keeps using the database query meanwhile
+            log.error("Failed to load catalog index, retrying in {} ms", loadRetryMillis, e);
+            maintenanceExecutor.schedule(this::load, loadRetryMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        synchronized (writeLock) {
+            loadedAt = System.currentTimeMillis();
+            snapshot = new Snapshot(base, new RoaringBitmap(), List.of(), 0, loadedAt);
+            // Replay changes that committed while the load was running
+            backlog.forEach(this::apply);
+            backlog.clear();
+        }
+        log.info("Catalog index loaded {} approved products in {} ms", base.size(), System.currentTimeMillis() - started);
+    }
+
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        Long productId = event.getProductId();
+        for (int attempt = 1; ; attempt++) {
+            long sequence;
+            synchronized (writeLock) {
+                sequence = changeSequence;
+            }
+            CatalogEntry entry = event.getType() == ProductChangedEvent.ChangeType.APPROVED
+                    ? productRepository.findCatalogEntry(productId).orElse(null)
+                    : null;
+
+            synchronized (writeLock) {
+                // Another change may have committed after our lookup read the row; look again
+                if (entry != null && sequence != changeSequence && attempt < MAX_LOOKUP_ATTEMPTS) {
+                    continue;
+                }
+                changeSequence++;
+                Change change = new Change(event.getType(), productId, entry);
+                if (snapshot == null) {
+                    backlog.add(change);
+                    return;
+                }
+                apply(change);
+                if (changesDuringCompaction != null) {
+                    changesDuringCompaction.add(change);
+                } else if (needsCompaction(snapshot)) {
+                    startCompaction(snapshot);
+                }
+                return;
+            }
+        }
+    }
+
+    public Optional<Result> query(Collection<String> stores, Collection<String> categories,
+                                  Integer minPrice, Integer maxPrice, long offset, int limit) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Collection<String> storeFilter = normalize(stores);
+        Collection<String> categoryFilter = normalize(categories);
+
+        RoaringBitmap baseMatches = current.base().match(storeFilter, categoryFilter, minPrice, maxPrice, current.removed());
+        List<CatalogEntry> deltaMatches = current.delta().stream()
+                .filter(entry -> entry.matches(storeFilter, categoryFilter, minPrice, maxPrice))
+                .toList();
+        long total = baseMatches.getLongCardinality() + deltaMatches.size();
+
+        // Global list position of each delta match = its index among delta matches
+        // plus the number of base matches that sort before it
+        long[] deltaPositions = new long[deltaMatches.size()];
+        for (int i = 0; i < deltaMatches.size(); i++) {
+            int insertionPoint = current.base().insertionPoint(deltaMatches.get(i));
+            deltaPositions[i] = i + (insertionPoint > 0 ? baseMatches.rank(insertionPoint - 1) : 0);
+        }
+
+        int deltaIndex = 0;
+        while (deltaIndex < deltaPositions.length && deltaPositions[deltaIndex] < offset) {
+            deltaIndex++;
+        }
+        long baseIndex = offset - deltaIndex;
+        long end = Math.min(total, offset + limit);
+
+        List<Long> ids = new ArrayList<>(limit);
+        for (long position = offset; position < end; position++) {
+            if (deltaIndex < deltaPositions.length && deltaPositions[deltaIndex] == position) {
+                ids.add(deltaMatches.get(deltaIndex++).getId());
+            } else {
+                ids.add(current.base().idAt(baseMatches.select((int) baseIndex++)));
+            }
+        }
+        return Optional.of(new Result(ids, total));
+    }
+
+    public Optional<ProductDto.Facets> facets(Collection<String> stores, Collection<String> categories,
+                                              Integer minPrice, Integer maxPrice) {
+        Snapshot current = snapshot;
+        if (current == null) {
+            return Optional.empty();
+        }
+        Collection<String> storeFilter = normalize(stores);
+        Collection<String> categoryFilter = normalize(categories);
+
+        FacetCounts counts = new FacetCounts();
+        current.base().countFacets(storeFilter, categoryFilter, minPrice, maxPrice, current.removed(), counts);
+        for (CatalogEntry entry : current.delta()) {
+            boolean storeMatches = storeFilter == null || storeFilter.contains(entry.getStore());
+            boolean categoryMatches = categoryFilter == null || categoryFilter.contains(entry.getCategory());
+            boolean priceMatches = entry.matches(null, null, minPrice, maxPrice);
+            if (categoryMatches && priceMatches) {
+                counts.addStore(entry.getStore(), 1);
+            }
+            if (storeMatches && priceMatches) {
+                counts.addCategory(entry.getCategory(), 1);
+            }
+            if (storeMatches && categoryMatches) {
+                counts.addPriceBucket(FacetCounts.bucketOf(entry.getPrice()), 1);
+                if (priceMatches) {
+                    counts.addTotal(1);
+                }
+            }
+        }
+        return Optional.of(counts.toResponse());
+    }
+
+    private void apply(Change change) {
+        snapshot = next(snapshot, change);
+    }
+
+    private Snapshot next(Snapshot current, Change change) {
+        return switch (change.type()) {
+            case APPROVED -> change.entry() != null ? withEntry(current, change.entry()) : current;
+            case REJECTED, DELETED -> withoutEntry(current, change.productId());
+        };
+    }
+
+    private boolean needsCompaction(Snapshot current) {
+        return current.delta().size() > compactionThreshold || current.removed().getCardinality() > compactionThreshold;
+    }
+
+    // Called under writeLock; the merge itself runs on the maintenance thread
+    private void startCompaction(Snapshot source) {
+        changesDuringCompaction = new ArrayList<>();
+        maintenanceExecutor.execute(() -> {
+            Snapshot compacted = null;
+            try {
+                compacted = compact(source);
+            } catch (RuntimeException e) {
+                log.error("Catalog index compaction failed", e);
+            }
+            synchronized (writeLock) {
+                if (compacted != null && snapshot != null) {
+                    Snapshot replayed = compacted;
+                    for (Change change : changesDuringCompaction) {
+                        replayed = next(replayed, change);
+                    }
+                    // Keep the version moving forward past everything readers have already seen
+                    snapshot = new Snapshot(replayed.base(), replayed.removed(), replayed.delta(),
+                            snapshot.version() + 1, System.currentTimeMillis());
+                }
+                changesDuringCompaction = null;
+                if (snapshot != null && needsCompaction(snapshot)) {
+                    startCompaction(snapshot);
+                }
+            }
+        });
+    }
+
+    private Snapshot withEntry(Snapshot current, CatalogEntry entry) {
+        int ordinal = current.base().ordinalOf(entry.getId());
+        if (ordinal >= 0) {
+            if (!current.removed().contains(ordinal)) {
+                return current;
+            }
+            RoaringBitmap removed = current.removed().clone();
+            removed.remove(ordinal);
+            return current.next(current.base(), removed, current.delta());
+        }
+        if (current.delta().stream().anyMatch(existing -> existing.getId() == entry.getId())) {
+            return current;
+        }
+
+        List<CatalogEntry> delta = new ArrayList<>(current.delta());
+        int position = Collections.binarySearch(delta, entry, CatalogEntry.LIST_ORDER);
+        delta.add(position < 0 ? -position - 1 : position, entry);
+        return current.next(current.base(), current.removed(), List.copyOf(delta));
+    }
+
+    private Snapshot withoutEntry(Snapshot current, long productId) {
+        int ordinal = current.base().ordinalOf(productId);
+        if (ordinal >= 0) {
+            if (current.removed().contains(ordinal)) {
+                return current;
+            }
+            RoaringBitmap removed = current.removed().clone();
+            removed.add(ordinal);
+            return current.next(current.base(), removed, current.delta());
+        }
+
+        List<CatalogEntry> delta = current.delta().stream()
+                .filter(existing -> existing.getId() != productId)
+                .toList();
+        return delta.size() == current.delta().size()
+                ? current
+                : current.next(current.base(), current.removed(), delta);
+    }
+
+    // Merges live base entries with the delta into a fresh segment; both inputs are already in list order
+    private Snapshot compact(Snapshot current) {
+        CatalogSegment base = current.base();
+        List<CatalogEntry> delta = current.delta();
+        List<CatalogEntry> merged = new ArrayList<>(base.size() + delta.size());
+        int deltaIndex = 0;
+        for (int ordinal = 0; ordinal < base.size(); ordinal++) {
+            if (current.removed().contains(ordinal)) {
+                continue;
+            }
+            CatalogEntry entry = base.entryAt(ordinal);
+            while (deltaIndex < delta.size() && CatalogEntry.LIST_ORDER.compare(delta.get(deltaIndex), entry) < 0) {
+                merged.add(delta.get(deltaIndex++));
+            }
+            merged.add(entry);
+        }
+        merged.addAll(delta.subList(deltaIndex, delta.size()));
+
+        log.debug("Catalog index compacted to {} products", merged.size());
+        return current.next(CatalogSegment.build(merged), new RoaringBitmap(), List.of());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        maintenanceExecutor.shutdownNow();
+    }
+
+    private static Collection<String> normalize(Collection<String> values) {
+        return values == null || values.isEmpty() ? null : values;
+    }
+}
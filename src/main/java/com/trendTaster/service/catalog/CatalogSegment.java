@@ -0,0 +1,245 @@
+package com.trendTaster.service.catalog;
+
+import com.trendTaster.dto.CatalogEntry;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+// Immutable columnar snapshot of approved products. Ordinal i is the i-th product in list order,
+// so ascending bitmap iteration yields results already sorted by createdAt DESC, id DESC.
+final class CatalogSegment {
+
+    private final long[] ids;
+    private final long[] createdAtKeys;
+    private final int[] prices;
+    private final int[] storeCodes;
+    private final int[] categoryCodes;
+
+    private final List<String> storeNames;
+    private final List<String> categoryNames;
+    private final Map<String, Integer> storeCodeByName = new HashMap<>();
+    private final Map<String, Integer> categoryCodeByName = new HashMap<>();
+    private final RoaringBitmap[] storeBitmaps;
+    private final RoaringBitmap[] categoryBitmaps;
+
+    // Open-addressing id -> ordinal table; product ids start at 1, so 0 marks an empty slot
+    private final long[] slotIds;
+    private final int[] slotOrdinals;
+
+    private CatalogSegment(long[] ids, long[] createdAtKeys, int[] prices, int[] storeCodes, int[] categoryCodes,
+                           List<String> storeNames, List<String> categoryNames,
+                           RoaringBitmap[] storeBitmaps, RoaringBitmap[] categoryBitmaps) {
+        this.ids = ids;
+        this.createdAtKeys = createdAtKeys;
+        this.prices = prices;
+        this.storeCodes = storeCodes;
+        this.categoryCodes = categoryCodes;
+        this.storeNames = List.copyOf(storeNames);
+        this.categoryNames = List.copyOf(categoryNames);
+        this.storeBitmaps = storeBitmaps;
+        this.categoryBitmaps = categoryBitmaps;
+        for (int code = 0; code < storeNames.size(); code++) {
+            storeCodeByName.put(storeNames.get(code), code);
+        }
+        for (int code = 0; code < categoryNames.size(); code++) {
+            categoryCodeByName.put(categoryNames.get(code), code);
+        }
+
+        int capacity = Integer.highestOneBit(Math.max(1, ids.length)) << 2;
+        this.slotIds = new long[capacity];
+        this.slotOrdinals = new int[capacity];
+        for (int ordinal = 0; ordinal < ids.length; ordinal++) {
+            putSlot(ids[ordinal], ordinal);
+        }
+    }
+
+    // Entries must already be in list order
+    static CatalogSegment build(List<CatalogEntry> entries) {
+        int size = entries.size();
+        long[] ids = new long[size];
+        long[] createdAtKeys = new long[size];
+        int[] prices = new int[size];
+        int[] storeCodes = new int[size];
+        int[] categoryCodes = new int[size];
+        List<String> storeNames = new ArrayList<>();
+        List<String> categoryNames = new ArrayList<>();
+        Map<String, Integer> storeCodeByName = new HashMap<>();
+        Map<String, Integer> categoryCodeByName = new HashMap<>();
+        List<RoaringBitmap> storeBitmaps = new ArrayList<>();
+        List<RoaringBitmap> categoryBitmaps = new ArrayList<>();
+
+        for (int ordinal = 0; ordinal < size; ordinal++) {
+            CatalogEntry entry = entries.get(ordinal);
+            ids[ordinal] = entry.getId();
+            createdAtKeys[ordinal] = entry.getCreatedAtKey();
+            prices[ordinal] = entry.getPrice();
+            storeCodes[ordinal] = code(entry.getStore(), storeNames, storeCodeByName, storeBitmaps);
+            categoryCodes[ordinal] = code(entry.getCategory(), categoryNames, categoryCodeByName, categoryBitmaps);
+            storeBitmaps.get(storeCodes[ordinal]).add(ordinal);
+            categoryBitmaps.get(categoryCodes[ordinal]).add(ordinal);
+        }
+
+        storeBitmaps.forEach(RoaringBitmap::runOptimize);
+        categoryBitmaps.forEach(RoaringBitmap::runOptimize);
+        return new CatalogSegment(ids, createdAtKeys, prices, storeCodes, categoryCodes, storeNames, categoryNames,
+                storeBitmaps.toArray(RoaringBitmap[]::new), categoryBitmaps.toArray(RoaringBitmap[]::new));
+    }
+
+    private static int code(String value, List<String> names, Map<String, Integer> codes, List<RoaringBitmap> bitmaps) {
+        Integer code = codes.get(value);
+        if (code == null) {
+            code = names.size();
+            names.add(value);
+            codes.put(value, code);
+            bitmaps.add(new RoaringBitmap());
+        }
+        return code;
+    }
+
+    int size() {
+        return ids.length;
+    }
+
+    long idAt(int ordinal) {
+        return ids[ordinal];
+    }
+
+    CatalogEntry entryAt(int ordinal) {
+        return new CatalogEntry(ids[ordinal], storeNames.get(storeCodes[ordinal]),
+                categoryNames.get(categoryCodes[ordinal]), prices[ordinal], createdAtKeys[ordinal]);
+    }
+
+    int ordinalOf(long id) {
+        int mask = slotIds.length - 1;
+        for (int slot = mix(id) & mask; slotIds[slot] != 0; slot = (slot + 1) & mask) {
+            if (slotIds[slot] == id) {
+                return slotOrdinals[slot];
+            }
+        }
+        return -1;
+    }
+
+    // Number of ordinals that sort before the given entry
+    int insertionPoint(CatalogEntry entry) {
+        int low = 0;
+        int high = ids.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            boolean midFirst = createdAtKeys[mid] > entry.getCreatedAtKey()
+                    || (createdAtKeys[mid] == entry.getCreatedAtKey() && ids[mid] > entry.getId());
+            if (midFirst) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    // Ordinals matching every given facet; a null collection means no filter on that facet
+    RoaringBitmap match(Collection<String> stores, Collection<String> categories,
+                        Integer minPrice, Integer maxPrice, RoaringBitmap excluded) {
+        RoaringBitmap result = RoaringBitmap.bitmapOfRange(0, ids.length);
+        if (stores != null) {
+            result.and(union(stores, this::storeBitmap));
+        }
+        if (categories != null) {
+            result.and(union(categories, this::categoryBitmap));
+        }
+        result.andNot(excluded);
+        return minPrice != null || maxPrice != null ? filterByPrice(result, minPrice, maxPrice) : result;
+    }
+
+    // Each facet is counted against the other two filters only, so every option shows how many
+    // results choosing it would give; bitmaps per store/category make those counts andCardinality calls
+    void countFacets(Collection<String> stores, Collection<String> categories, Integer minPrice, Integer maxPrice,
+                     RoaringBitmap excluded, FacetCounts counts) {
+        RoaringBitmap live = RoaringBitmap.bitmapOfRange(0, ids.length);
+        live.andNot(excluded);
+        RoaringBitmap storeMatches = stores != null ? union(stores, this::storeBitmap) : null;
+        RoaringBitmap categoryMatches = categories != null ? union(categories, this::categoryBitmap) : null;
+        RoaringBitmap priceMatches = minPrice != null || maxPrice != null ? filterByPrice(live, minPrice, maxPrice) : null;
+
+        RoaringBitmap storeCandidates = and(live, categoryMatches, priceMatches);
+        for (int code = 0; code < storeBitmaps.length; code++) {
+            counts.addStore(storeNames.get(code), RoaringBitmap.andCardinality(storeBitmaps[code], storeCandidates));
+        }
+
+        RoaringBitmap categoryCandidates = and(live, storeMatches, priceMatches);
+        for (int code = 0; code < categoryBitmaps.length; code++) {
+            counts.addCategory(categoryNames.get(code), RoaringBitmap.andCardinality(categoryBitmaps[code], categoryCandidates));
+        }
+
+        RoaringBitmap priceCandidates = and(live, storeMatches, categoryMatches);
+        long[] buckets = new long[FacetCounts.PRICE_BOUNDS.length];
+        priceCandidates.forEach((int ordinal) -> buckets[FacetCounts.bucketOf(prices[ordinal])]++);
+        for (int bucket = 0; bucket < buckets.length; bucket++) {
+            counts.addPriceBucket(bucket, buckets[bucket]);
+        }
+
+        counts.addTotal(priceMatches != null
+                ? RoaringBitmap.andCardinality(priceCandidates, priceMatches)
+                : priceCandidates.getLongCardinality());
+    }
+
+    private static RoaringBitmap and(RoaringBitmap base, RoaringBitmap... filters) {
+        RoaringBitmap result = base.clone();
+        for (RoaringBitmap filter : filters) {
+            if (filter != null) {
+                result.and(filter);
+            }
+        }
+        return result;
+    }
+
+    private RoaringBitmap filterByPrice(RoaringBitmap ordinals, Integer minPrice, Integer maxPrice) {
+        int min = minPrice != null ? minPrice : Integer.MIN_VALUE;
+        int max = maxPrice != null ? maxPrice : Integer.MAX_VALUE;
+        RoaringBitmap filtered = new RoaringBitmap();
+        ordinals.forEach((int ordinal) -> {
+            int price = prices[ordinal];
+            if (price >= min && price <= max) {
+                filtered.add(ordinal);
+            }
+        });
+        return filtered;
+    }
+
+    private RoaringBitmap storeBitmap(String store) {
+        Integer code = storeCodeByName.get(store);
+        return code != null ? storeBitmaps[code] : null;
+    }
+
+    private RoaringBitmap categoryBitmap(String category) {
+        Integer code = categoryCodeByName.get(category);
+        return code != null ? categoryBitmaps[code] : null;
+    }
+
+    private static RoaringBitmap union(Collection<String> values, Function<String, RoaringBitmap> lookup) {
+        return RoaringBitmap.or(values.stream()
+                .map(lookup)
+                .filter(Objects::nonNull)
+                .iterator());
+    }
+
+    private void putSlot(long id, int ordinal) {
+        int mask = slotIds.length - 1;
+        int slot = mix(id) & mask;
+        while (slotIds[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slotIds[slot] = id;
+        slotOrdinals[slot] = ordinal;
+    }
+
+    private static int mix(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+}
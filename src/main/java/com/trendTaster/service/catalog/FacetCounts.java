@@ -0,0 +1,66 @@
+package com.trendTaster.service.catalog;
+
+import com.trendTaster.dto.ProductDto;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// Accumulates facet counts from the catalog index or from the grouped fallback query
+public class FacetCounts {
+
+    // Lower bounds of the price buckets; the fallback query buckets with width_bucket over the same values
+    public static final int[] PRICE_BOUNDS = {0, 1000, 2000, 3000, 5000, 10000};
+
+    private final Map<String, Long> stores = new HashMap<>();
+    private final Map<String, Long> categories = new HashMap<>();
+    private final long[] prices = new long[PRICE_BOUNDS.length];
+    private long total;
+
+    public static int bucketOf(int price) {
+        int bucket = 0;
+        while (bucket + 1 < PRICE_BOUNDS.length && price >= PRICE_BOUNDS[bucket + 1]) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    public void addStore(String store, long count) {
+        stores.merge(store, count, Long::sum);
+    }
+
+    public void addCategory(String category, long count) {
+        categories.merge(category, count, Long::sum);
+    }
+
+    public void addPriceBucket(int bucket, long count) {
+        prices[bucket] += count;
+    }
+
+    public void addTotal(long count) {
+        total += count;
+    }
+
+    public ProductDto.Facets toResponse() {
+        ProductDto.PriceBucket[] buckets = new ProductDto.PriceBucket[PRICE_BOUNDS.length];
+        for (int bucket = 0; bucket < PRICE_BOUNDS.length; bucket++) {
+            Integer max = bucket + 1 < PRICE_BOUNDS.length ? PRICE_BOUNDS[bucket + 1] - 1 : null;
+            buckets[bucket] = new ProductDto.PriceBucket(PRICE_BOUNDS[bucket], max, prices[bucket]);
+        }
+        return ProductDto.Facets.builder()
+                .total(total)
+                .stores(sorted(stores))
+                .categories(sorted(categories))
+                .prices(List.of(buckets))
+                .build();
+    }
+
+    // Most results first; options with no results are left out
+    private static List<ProductDto.FacetCount> sorted(Map<String, Long> counts) {
+        return counts.entrySet().stream()
+                .filter(entry -> entry.getValue() > 0)
+                .sorted(Map.Entry.<String, Long>comparingByValue().reversed().thenComparing(Map.Entry.comparingByKey()))
+                .map(entry -> new ProductDto.FacetCount(entry.getKey(), entry.getValue()))
+                .toList();
+    }
+}
@@ -0,0 +1,53 @@
+package com.trendTaster.service.importing;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+
+// BufferedReader.readLine with a length cap: the rest of an over-long line is skipped rather than
+// buffered, so an upload without line breaks cannot be held in memory whole
+class BoundedLineReader implements Closeable {
+
+    // Generous for one product, whatever the format
+    static final int MAX_LINE_LENGTH = 65_536;
+
+    private final BufferedReader reader;
+    private final StringBuilder line = new StringBuilder();
+    private boolean truncated;
+
+    BoundedLineReader(BufferedReader reader) {
+        this.reader = reader;
+    }
+
+    // Returns null at end of input
+    String readLine() throws IOException {
+        line.setLength(0);
+        truncated = false;
+        int c = reader.read();
+        if (c < 0) {
+            return null;
+        }
+        while (c >= 0 && c != '\n') {
+            if (line.length() < MAX_LINE_LENGTH) {
+                line.append((char) c);
+            } else {
+                truncated = true;
+            }
+            c = reader.read();
+        }
+        if (!line.isEmpty() && line.charAt(line.length() - 1) == '\r') {
+            line.setLength(line.length() - 1);
+        }
+        return line.toString();
+    }
+
+    // Whether the line last returned was cut off at MAX_LINE_LENGTH
+    boolean isTruncated() {
+        return truncated;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
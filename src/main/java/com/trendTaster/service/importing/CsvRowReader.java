@@ -0,0 +1,151 @@
+package com.trendTaster.service.importing;
+
+import com.trendTaster.dto.ProductDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// RFC 4180 CSV with a header row naming CreateRequest fields. imageUrls holds several URLs
+// separated by '|'. Quoted fields may contain commas, doubled quotes and line breaks.
+class CsvRowReader implements ProductRowReader {
+
+    private static final List<String> REQUIRED_COLUMNS = List.of("name", "store", "price", "category");
+    private static final int MAX_FIELD_LENGTH = 10_000;
+
+    private final BoundedLineReader reader;
+    private final Map<String, Integer> columns = new HashMap<>();
+    private long lineNumber;
+
+    CsvRowReader(BufferedReader reader) throws IOException {
+        this.reader = new BoundedLineReader(reader);
+
+        List<String> header = readRecord();
+        if (header == null) {
+            throw new IllegalArgumentException("CSV 헤더가 없습니다");
+        }
+        for (int i = 0; i < header.size(); i++) {
+            // Spreadsheet exports often start with a byte order mark
+            String name = header.get(i).replace("\uFEFF", "").trim();
+            columns.put(name, i);
+        }
+        List<String> missing = REQUIRED_COLUMNS.stream().filter(column -> !columns.containsKey(column)).toList();
+        if (!missing.isEmpty()) {
+            throw new IllegalArgumentException("CSV 헤더에 필수 컬럼이 없습니다: " + String.join(", ", missing));
+        }
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        long startLine;
+        List<String> fields;
+        do {
+            startLine = lineNumber + 1;
+            fields = readRecord();
+            if (fields == null) {
+                return null;
+            }
+        } while (fields.size() == 1 && fields.get(0).isBlank());
+
+        Integer price;
+        String rawPrice = field(fields, "price");
+        try {
+            price = rawPrice != null ? Integer.valueOf(rawPrice.trim()) : null;
+        } catch (NumberFormatException e) {
+            return ProductRow.failed(startLine, "가격은 숫자여야 합니다: " + rawPrice);
+        }
+
+        String imageUrls = field(fields, "imageUrls");
+        ProductDto.CreateRequest request = new ProductDto.CreateRequest(
+                field(fields, "name"),
+                field(fields, "store"),
+                price,
+                field(fields, "category"),
+                field(fields, "releaseDate"),
+                field(fields, "description"),
+                field(fields, "ingredients"),
+                field(fields, "barcode"),
+                field(fields, "location"),
+                imageUrls != null
+                        ? Arrays.stream(imageUrls.split("\\|")).map(String::trim).filter(url -> !url.isEmpty()).toList()
+                        : List.of()
+        );
+        return ProductRow.of(startLine, request);
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // Missing and empty cells both read as null, matching an absent JSON property
+    private String field(List<String> fields, String column) {
+        Integer index = columns.get(column);
+        if (index == null || index >= fields.size() || fields.get(index).isEmpty()) {
+            return null;
+        }
+        return fields.get(index);
+    }
+
+    private List<String> readRecord() throws IOException {
+        String line = reader.readLine();
+        if (line == null) {
+            return null;
+        }
+        lineNumber++;
+        long startLine = lineNumber;
+        checkLength(startLine);
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            for (int i = 0; i < line.length(); i++) {
+                char c = line.charAt(i);
+                if (quoted) {
+                    if (c != '"') {
+                        field.append(c);
+                    } else if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                        field.append('"');
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == '"') {
+                    quoted = true;
+                } else if (c == ',') {
+                    fields.add(field.toString());
+                    field.setLength(0);
+                } else {
+                    field.append(c);
+                }
+            }
+            if (!quoted) {
+                break;
+            }
+
+            // An unterminated quote would otherwise pull the rest of the upload into one field
+            line = reader.readLine();
+            if (line == null || field.length() > MAX_FIELD_LENGTH) {
+                throw new UnreadableInputException(startLine, "CSV 따옴표가 닫히지 않았습니다 (" + startLine + "행)");
+            }
+            lineNumber++;
+            checkLength(startLine);
+            field.append('\n');
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    // The skipped tail of an over-long line may open or close a quote, so record boundaries after it are unknown
+    private void checkLength(long startLine) {
+        if (reader.isTruncated()) {
+            throw new UnreadableInputException(startLine,
+                    "CSV 행이 너무 깁니다 (" + startLine + "행, 최대 " + BoundedLineReader.MAX_LINE_LENGTH + "자)");
+        }
+    }
+}
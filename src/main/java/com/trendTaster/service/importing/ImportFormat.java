@@ -0,0 +1,29 @@
+package com.trendTaster.service.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+public enum ImportFormat {
+    NDJSON,
+    CSV;
+
+    public static ImportFormat fromContentType(String contentType) {
+        if (contentType != null) {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("application/x-ndjson"))) {
+                return NDJSON;
+            }
+            if (mediaType.isCompatibleWith(MediaType.parseMediaType("text/csv"))) {
+                return CSV;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 형식입니다 (application/x-ndjson, text/csv)");
+    }
+
+    ProductRowReader open(BufferedReader reader, ObjectMapper objectMapper) throws IOException {
+        return this == NDJSON ? new NdjsonRowReader(reader, objectMapper) : new CsvRowReader(reader);
+    }
+}
@@ -0,0 +1,49 @@
+package com.trendTaster.service.importing;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.trendTaster.dto.ProductDto;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+// One CreateRequest JSON object per line; blank lines are skipped
+class NdjsonRowReader implements ProductRowReader {
+
+    private final BoundedLineReader reader;
+    private final ObjectReader requestReader;
+    private long lineNumber;
+
+    NdjsonRowReader(BufferedReader reader, ObjectMapper objectMapper) {
+        this.reader = new BoundedLineReader(reader);
+        this.requestReader = objectMapper.readerFor(ProductDto.CreateRequest.class);
+    }
+
+    @Override
+    public ProductRow next() throws IOException {
+        String line;
+        do {
+            line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+            lineNumber++;
+        } while (!reader.isTruncated() && line.isBlank());
+
+        // Each line stands alone, so reading resumes cleanly at the next one
+        if (reader.isTruncated()) {
+            return ProductRow.failed(lineNumber, "행이 너무 깁니다 (최대 " + BoundedLineReader.MAX_LINE_LENGTH + "자)");
+        }
+        try {
+            return ProductRow.of(lineNumber, requestReader.readValue(line));
+        } catch (JsonProcessingException e) {
+            return ProductRow.failed(lineNumber, "JSON 형식이 올바르지 않습니다: " + e.getOriginalMessage());
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
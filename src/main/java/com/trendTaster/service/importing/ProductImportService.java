@@ -0,0 +1,251 @@
+package com.trendTaster.service.importing;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.User;
+import com.trendTaster.dto.AdminDto;
+import com.trendTaster.dto.ProductDto;
+import com.trendTaster.repository.IdSequenceRepository;
+import com.trendTaster.repository.StoreRepository;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// Bulk onboarding: rows are validated against one preloaded set of approved stores, then inserted
+// chunk by chunk with JDBC batches (one for products, one for their images). Each chunk commits on its
+// own, so a bad chunk only fails its own rows and memory is bounded by the chunk size.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private static final String INSERT_PRODUCT = """
+            INSERT INTO products (id, name, store, price, category, release_date, description, ingredients,
+                                  barcode, location, status, submitted_by, views_count, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, 0, ?, ?)
+            """;
+    private static final String INSERT_IMAGE = """
+            INSERT INTO product_images (id, product_id, image_url, display_order, created_at, updated_at)
+            VALUES (?, ?, ?, ?, ?, ?)
+            """;
+
+    private final StoreRepository storeRepository;
+    private final IdSequenceRepository idSequenceRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+
+    private record ValidRow(long line, ProductDto.CreateRequest request, LocalDate releaseDate) {
+    }
+
+    private static final class Report {
+        private long total;
+        private long imported;
+        private long failed;
+        private final List<AdminDto.ImportError> errors = new ArrayList<>();
+
+        void fail(long line, String message) {
+            failed++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new AdminDto.ImportError(line, message));
+            }
+        }
+    }
+
+    // Imported products start as PENDING, the same as single submissions through createProduct
+    public AdminDto.ImportResult importProducts(InputStream input, ImportFormat format, User user) throws IOException {
+        Set<String> approvedStores = new HashSet<>(storeRepository.findApprovedNames());
+        Report report = new Report();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        try (ProductRowReader rows = format.open(reader, objectMapper)) {
+            List<ValidRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (true) {
+                ProductRow row;
+                try {
+                    row = rows.next();
+                } catch (UnreadableInputException e) {
+                    // Earlier chunks are already committed, so report the rest as one failed row
+                    report.total++;
+                    report.fail(e.getLine(), e.getMessage());
+                    break;
+                }
+                if (row == null) {
+                    break;
+                }
+                report.total++;
+                if (row.error() != null) {
+                    report.fail(row.line(), row.error());
+                    continue;
+                }
+
+                ValidRow valid = validate(row, approvedStores, report);
+                if (valid != null) {
+                    chunk.add(valid);
+                    if (chunk.size() == CHUNK_SIZE) {
+                        insertChunk(chunk, user, report);
+                        chunk.clear();
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                insertChunk(chunk, user, report);
+            }
+        }
+
+        log.info("Product import by {}: {} rows, {} imported, {} failed",
+                user.getUsername(), report.total, report.imported, report.failed);
+        return AdminDto.ImportResult.builder()
+                .totalRows(report.total)
+                .importedRows(report.imported)
+                .failedRows(report.failed)
+                .errors(report.errors)
+                .build();
+    }
+
+    private ValidRow validate(ProductRow row, Set<String> approvedStores, Report report) {
+        ProductDto.CreateRequest request = row.request();
+        Set<ConstraintViolation<ProductDto.CreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            report.fail(row.line(), violations.stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .collect(Collectors.joining(", ")));
+            return null;
+        }
+
+        if (!approvedStores.contains(request.getStore())) {
+            report.fail(row.line(), "등록되지 않은 매장/브랜드입니다: " + request.getStore());
+            return null;
+        }
+
+        // Column limits are checked here so one long value cannot fail the whole batch
+        String tooLong = firstTooLong(request);
+        if (tooLong != null) {
+            report.fail(row.line(), tooLong + " 길이가 너무 깁니다");
+            return null;
+        }
+
+        LocalDate releaseDate = null;
+        if (request.getReleaseDate() != null) {
+            try {
+                releaseDate = LocalDate.parse(request.getReleaseDate());
+            } catch (DateTimeParseException e) {
+                report.fail(row.line(), "출시일 형식이 올바르지 않습니다 (yyyy-MM-dd): " + request.getReleaseDate());
+                return null;
+            }
+        }
+        return new ValidRow(row.line(), request, releaseDate);
+    }
+
+    private String firstTooLong(ProductDto.CreateRequest request) {
+        if (request.getName().length() > 200) return "name";
+        if (request.getStore().length() > 50) return "store";
+        if (request.getCategory().length() > 50) return "category";
+        if (request.getDescription() != null && request.getDescription().length() > 1000) return "description";
+        if (request.getIngredients() != null && request.getIngredients().length() > 1000) return "ingredients";
+        if (request.getBarcode() != null && request.getBarcode().length() > 50) return "barcode";
+        if (request.getLocation() != null && request.getLocation().length() > 200) return "location";
+        if (request.getImageUrls().stream().anyMatch(url -> url == null || url.length() > 500)) return "imageUrls";
+        return null;
+    }
+
+    private void insertChunk(List<ValidRow> chunk, User user, Report report) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                List<Long> productIds = insertProducts(chunk, user, now);
+                insertImages(chunk, productIds, now);
+            });
+            report.imported += chunk.size();
+        } catch (DataAccessException e) {
+            log.warn("Product import chunk starting at line {} failed", chunk.get(0).line(), e);
+            String message = "저장에 실패했습니다: " + e.getMostSpecificCause().getMessage();
+            for (ValidRow row : chunk) {
+                report.fail(row.line(), message);
+            }
+        }
+    }
+
+    // Ids come from the entity sequences, so neither batch needs generated keys back
+    private List<Long> insertProducts(List<ValidRow> chunk, User user, Timestamp now) {
+        List<Long> ids = idSequenceRepository.reserve(IdSequenceRepository.PRODUCTS_SEQ, chunk.size());
+        jdbcTemplate.batchUpdate(INSERT_PRODUCT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                ValidRow row = chunk.get(i);
+                ProductDto.CreateRequest request = row.request();
+                ps.setLong(1, ids.get(i));
+                ps.setString(2, request.getName());
+                ps.setString(3, request.getStore());
+                ps.setInt(4, request.getPrice());
+                ps.setString(5, request.getCategory());
+                if (row.releaseDate() != null) {
+                    ps.setDate(6, Date.valueOf(row.releaseDate()));
+                } else {
+                    ps.setNull(6, Types.DATE);
+                }
+                ps.setString(7, request.getDescription());
+                ps.setString(8, request.getIngredients());
+                ps.setString(9, request.getBarcode());
+                ps.setString(10, request.getLocation());
+                ps.setString(11, Product.ProductStatus.PENDING.name());
+                ps.setLong(12, user.getId());
+                ps.setTimestamp(13, now);
+                ps.setTimestamp(14, now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return chunk.size();
+            }
+        });
+        return ids;
+    }
+
+    private void insertImages(List<ValidRow> chunk, List<Long> productIds, Timestamp now) {
+        int imageCount = chunk.stream().mapToInt(row -> row.request().getImageUrls().size()).sum();
+        if (imageCount == 0) {
+            return;
+        }
+
+        List<Long> imageIds = idSequenceRepository.reserve(IdSequenceRepository.PRODUCT_IMAGES_SEQ, imageCount);
+        List<Object[]> images = new ArrayList<>(imageCount);
+        for (int i = 0; i < chunk.size(); i++) {
+            List<String> imageUrls = chunk.get(i).request().getImageUrls();
+            for (int order = 0; order < imageUrls.size(); order++) {
+                images.add(new Object[]{imageIds.get(images.size()), productIds.get(i), imageUrls.get(order), order, now, now});
+            }
+        }
+        jdbcTemplate.batchUpdate(INSERT_IMAGE, images);
+    }
+}
@@ -0,0 +1,15 @@
+package com.trendTaster.service.importing;
+
+import com.trendTaster.dto.ProductDto;
+
+// One parsed input record: either a request or the reason it could not be read
+record ProductRow(long line, ProductDto.CreateRequest request, String error) {
+
+    static ProductRow of(long line, ProductDto.CreateRequest request) {
+        return new ProductRow(line, request, null);
+    }
+
+    static ProductRow failed(long line, String error) {
+        return new ProductRow(line, null, error);
+    }
+}
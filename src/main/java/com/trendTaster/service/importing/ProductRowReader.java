@@ -0,0 +1,11 @@
+package com.trendTaster.service.importing;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+// Pull-based reader so the importer only ever holds one chunk of rows
+interface ProductRowReader extends Closeable {
+
+    // Returns null at end of input
+    ProductRow next() throws IOException;
+}
@@ -0,0 +1,15 @@
+package com.trendTaster.service.importing;
+
+import lombok.Getter;
+
+// Input that cannot be split into further rows; everything read before the given line still counts
+@Getter
+class UnreadableInputException extends IllegalArgumentException {
+
+    private final long line;
+
+    UnreadableInputException(long line, String message) {
+        super(message);
+        this.line = line;
+    }
+}
@@ -0,0 +1,59 @@
+package com.trendTaster.service.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+
+// Splits text into runs of letters/digits and emits overlapping character bigrams per run
+// (single-character runs are kept as unigrams). Bigrams match Korean compounds and particles
+// well enough without a morphological analyzer. Indexed text also gets a unigram per character
+// so that a one-character query such as "빵" still finds "크림빵".
+final class BigramAnalyzer {
+
+    private BigramAnalyzer() {
+    }
+
+    // Term -> frequency for indexing, accumulated into the given map with the given weight
+    static void analyzeForIndex(String text, int weight, Map<String, Integer> terms) {
+        analyze(text, weight, terms, true);
+    }
+
+    // Query terms: bigrams, or a unigram for a one-character run
+    static Map<String, Integer> analyze(String text) {
+        Map<String, Integer> terms = new LinkedHashMap<>();
+        analyze(text, 1, terms, false);
+        return terms;
+    }
+
+    private static void analyze(String text, int weight, Map<String, Integer> terms, boolean unigrams) {
+        if (text == null || text.isEmpty()) {
+            return;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+
+        int runStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean inRun = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (inRun && runStart < 0) {
+                runStart = i;
+            } else if (!inRun && runStart >= 0) {
+                emitRun(codePoints, runStart, i, weight, terms, unigrams);
+                runStart = -1;
+            }
+        }
+    }
+
+    private static void emitRun(int[] codePoints, int start, int end, int weight, Map<String, Integer> terms,
+                                boolean unigrams) {
+        if (end - start == 1 || unigrams) {
+            for (int i = start; i < end; i++) {
+                terms.merge(new String(codePoints, i, 1), weight, Integer::sum);
+            }
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.merge(new String(codePoints, i, 2), weight, Integer::sum);
+        }
+    }
+}
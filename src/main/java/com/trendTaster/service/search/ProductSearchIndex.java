@@ -0,0 +1,323 @@
+package com.trendTaster.service.search;
+
+import com.trendTaster.dto.SearchDocument;
+import com.trendTaster.event.ProductChangedEvent;
+import com.trendTaster.repository.ProductRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// In-process inverted index over name, description and ingredients of APPROVED products,
+// using character bigrams (plus unigrams) as terms and BM25 for ranking. Kept current from product change
+// events so search never needs a LIKE '%q%' scan.
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int NAME_WEIGHT = 3;
+    // Fraction of query terms a document must contain once the query has more than two terms
+    private static final double MINIMUM_MATCH = 0.75;
+    // Lookups racing other changes are retried this often before applying anyway
+    private static final int MAX_LOOKUP_ATTEMPTS = 3;
+
+    private final ProductRepository productRepository;
+    private final long loadRetryMillis;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final ScheduledExecutorService maintenanceExecutor =
+            Executors.newSingleThreadScheduledExecutor(Thread.ofPlatform().name("search-index").daemon().factory());
+
+    // Guarded by lock
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> ordinalById = new HashMap<>();
+    private final List<Doc> docs = new ArrayList<>();
+    private long totalLength;
+    private int deadDocs;
+    private boolean ready;
+    // Changes that arrive before the index is loaded; each load attempt clears it, since everything
+    // committed before the attempt's query is already in its result
+    private final List<Change> backlog = new ArrayList<>();
+    private long changeSequence;
+
+    public ProductSearchIndex(ProductRepository productRepository,
+                              @Value("${product.search-index.load-retry-ms:30000}") long loadRetryMillis) {
+        this.productRepository = productRepository;
+        this.loadRetryMillis = loadRetryMillis;
+    }
+
+    private record Doc(long id, int length, String store, String category, int price) {
+    }
+
+    // A change with its document already loaded (null: not approved, or gone)
+    private record Change(long productId, SearchDocument document) {
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class Result {
+        private final List<Long> ids;
+        private final long total;
+    }
+
+    // Ordinal-sorted posting list; entries of removed documents are skipped and purged on compaction
+    private static final class Postings {
+        private int[] ordinals = new int[4];
+        private int[] frequencies = new int[4];
+        private int size;
+
+        void add(int ordinal, int frequency) {
+            if (size == ordinals.length) {
+                ordinals = Arrays.copyOf(ordinals, size * 2);
+                frequencies = Arrays.copyOf(frequencies, size * 2);
+            }
+            ordinals[size] = ordinal;
+            frequencies[size] = frequency;
+            size++;
+        }
+    }
+
+    private static final class Hit {
+        private final int ordinal;
+        private double score;
+        private int matchedTerms;
+
+        Hit(int ordinal) {
+            this.ordinal = ordinal;
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        long started = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            backlog.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        List<SearchDocument> documents;
+        try {
+            documents = productRepository.findSearchDocuments();
+        } catch (Exception e) {
+            // Search answers 503 meanwhile
+            log.error("Failed to load product search index, retrying in {} ms", loadRetryMillis, e);
+            maintenanceExecutor.schedule(this::load, loadRetryMillis, TimeUnit.MILLISECONDS);
+            return;
+        }
+
+        lock.writeLock().lock();
+        try {
+            documents.forEach(this::addDocument);
+            ready = true;
+            // Replay changes that committed while the initial load was running
+            for (Change change : backlog) {
+                apply(change);
+            }
+            backlog.clear();
+            log.info("Product search index loaded {} documents, {} terms in {} ms",
+                    documents.size(), postings.size(), System.currentTimeMillis() - started);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // The document is loaded before taking the write lock so searches never wait on the database
+    @TransactionalEventListener
+    public void onProductChanged(ProductChangedEvent event) {
+        for (int attempt = 1; ; attempt++) {
+            long sequence;
+            lock.readLock().lock();
+            try {
+                sequence = changeSequence;
+            } finally {
+                lock.readLock().unlock();
+            }
+            SearchDocument document = event.getType() == ProductChangedEvent.ChangeType.APPROVED
+                    ? productRepository.findSearchDocument(event.getProductId()).orElse(null)
+                    : null;
+
+            lock.writeLock().lock();
+            try {
+                // Another change may have committed after our lookup read the row; look again
+                if (document != null && sequence != changeSequence && attempt < MAX_LOOKUP_ATTEMPTS) {
+                    continue;
+                }
+                changeSequence++;
+                Change change = new Change(event.getProductId(), document);
+                if (!ready) {
+                    backlog.add(change);
+                    return;
+                }
+                apply(change);
+                return;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    public Optional<Result> search(String query, Collection<String> stores, Collection<String> categories,
+                                   Integer minPrice, Integer maxPrice, long offset, int limit) {
+        List<String> terms = List.copyOf(BigramAnalyzer.analyze(query).keySet());
+
+        lock.readLock().lock();
+        try {
+            if (!ready) {
+                return Optional.empty();
+            }
+            if (terms.isEmpty()) {
+                return Optional.of(new Result(List.of(), 0));
+            }
+
+            Collection<String> storeFilter = stores == null || stores.isEmpty() ? null : stores;
+            Collection<String> categoryFilter = categories == null || categories.isEmpty() ? null : categories;
+            int liveDocs = docs.size() - deadDocs;
+            double averageLength = liveDocs > 0 ? (double) totalLength / liveDocs : 1;
+
+            Map<Integer, Hit> hits = new HashMap<>();
+            for (String term : terms) {
+                Postings list = postings.get(term);
+                if (list == null) {
+                    continue;
+                }
+                int documentFrequency = 0;
+                for (int i = 0; i < list.size; i++) {
+                    if (docs.get(list.ordinals[i]) != null) {
+                        documentFrequency++;
+                    }
+                }
+                double idf = Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+
+                for (int i = 0; i < list.size; i++) {
+                    Doc doc = docs.get(list.ordinals[i]);
+                    if (doc == null || !matchesFilters(doc, storeFilter, categoryFilter, minPrice, maxPrice)) {
+                        continue;
+                    }
+                    int frequency = list.frequencies[i];
+                    double norm = K1 * (1 - B + B * doc.length() / averageLength);
+                    Hit hit = hits.computeIfAbsent(list.ordinals[i], Hit::new);
+                    hit.score += idf * frequency * (K1 + 1) / (frequency + norm);
+                    hit.matchedTerms++;
+                }
+            }
+
+            int requiredTerms = terms.size() <= 2 ? terms.size() : (int) Math.ceil(terms.size() * MINIMUM_MATCH);
+            List<Hit> ranked = hits.values().stream()
+                    .filter(hit -> hit.matchedTerms >= requiredTerms)
+                    .sorted(Comparator.comparingDouble((Hit hit) -> hit.score).reversed()
+                            .thenComparing(hit -> docs.get(hit.ordinal).id(), Comparator.reverseOrder()))
+                    .toList();
+
+            List<Long> ids = ranked.stream()
+                    .skip(offset)
+                    .limit(limit)
+                    .map(hit -> docs.get(hit.ordinal).id())
+                    .toList();
+            return Optional.of(new Result(ids, ranked.size()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        maintenanceExecutor.shutdownNow();
+    }
+
+    private static boolean matchesFilters(Doc doc, Collection<String> stores, Collection<String> categories,
+                                          Integer minPrice, Integer maxPrice) {
+        return (stores == null || stores.contains(doc.store()))
+                && (categories == null || categories.contains(doc.category()))
+                && (minPrice == null || doc.price() >= minPrice)
+                && (maxPrice == null || doc.price() <= maxPrice);
+    }
+
+    private void apply(Change change) {
+        removeDocument(change.productId());
+        if (change.document() != null) {
+            addDocument(change.document());
+        }
+        // Purge dead postings once a quarter of the ordinals are tombstones
+        if (deadDocs > 1024 && deadDocs * 4 > docs.size()) {
+            compact();
+        }
+    }
+
+    private void addDocument(SearchDocument document) {
+        Map<String, Integer> terms = new HashMap<>();
+        BigramAnalyzer.analyzeForIndex(document.getName(), NAME_WEIGHT, terms);
+        BigramAnalyzer.analyzeForIndex(document.getDescription(), 1, terms);
+        BigramAnalyzer.analyzeForIndex(document.getIngredients(), 1, terms);
+        int length = terms.values().stream().mapToInt(Integer::intValue).sum();
+
+        int ordinal = docs.size();
+        docs.add(new Doc(document.getId(), length, document.getStore(), document.getCategory(), document.getPrice()));
+        ordinalById.put(document.getId(), ordinal);
+        totalLength += length;
+        terms.forEach((term, frequency) -> postings.computeIfAbsent(term, key -> new Postings()).add(ordinal, frequency));
+    }
+
+    private void removeDocument(Long productId) {
+        Integer ordinal = ordinalById.remove(productId);
+        if (ordinal == null) {
+            return;
+        }
+        totalLength -= docs.get(ordinal).length();
+        docs.set(ordinal, null);
+        deadDocs++;
+    }
+
+    // Renumbers live documents densely and drops postings that point at removed ones
+    private void compact() {
+        int[] remap = new int[docs.size()];
+        List<Doc> liveDocs = new ArrayList<>(docs.size() - deadDocs);
+        for (int ordinal = 0; ordinal < docs.size(); ordinal++) {
+            Doc doc = docs.get(ordinal);
+            remap[ordinal] = doc != null ? liveDocs.size() : -1;
+            if (doc != null) {
+                ordinalById.put(doc.id(), liveDocs.size());
+                liveDocs.add(doc);
+            }
+        }
+
+        postings.values().removeIf(list -> {
+            int kept = 0;
+            for (int i = 0; i < list.size; i++) {
+                int ordinal = remap[list.ordinals[i]];
+                if (ordinal >= 0) {
+                    list.ordinals[kept] = ordinal;
+                    list.frequencies[kept] = list.frequencies[i];
+                    kept++;
+                }
+            }
+            list.size = kept;
+            return kept == 0;
+        });
+
+        docs.clear();
+        docs.addAll(liveDocs);
+        deadDocs = 0;
+        log.debug("Product search index compacted to {} documents", docs.size());
+    }
+}
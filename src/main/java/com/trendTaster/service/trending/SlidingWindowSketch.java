@@ -0,0 +1,81 @@
+package com.trendTaster.service.trending;
+
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+// Count-min sketch over a ring of time buckets. A running window total is kept alongside the
+// buckets, so an estimate costs O(depth) regardless of how many buckets the window spans,
+// and memory is fixed no matter how many products are viewed.
+final class SlidingWindowSketch {
+
+    private static final int DEPTH = 4;
+    private static final long[] SEEDS = {0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L};
+
+    private final int width;
+    private final int bucketCount;
+    private final long bucketMillis;
+    private final AtomicIntegerArray[] buckets;
+    private final AtomicIntegerArray window;
+    private volatile long currentEpoch;
+
+    SlidingWindowSketch(TrendingWindow trendingWindow, int width, long now) {
+        this.width = width;
+        this.bucketCount = trendingWindow.getBucketCount();
+        this.bucketMillis = trendingWindow.getBucketLength().toMillis();
+        this.buckets = new AtomicIntegerArray[bucketCount];
+        for (int i = 0; i < bucketCount; i++) {
+            buckets[i] = new AtomicIntegerArray(DEPTH * width);
+        }
+        this.window = new AtomicIntegerArray(DEPTH * width);
+        this.currentEpoch = now / bucketMillis;
+    }
+
+    void add(long item, long now) {
+        advance(now);
+        AtomicIntegerArray bucket = buckets[(int) (currentEpoch % bucketCount)];
+        for (int row = 0; row < DEPTH; row++) {
+            int cell = cell(item, row);
+            // Bucket first, then window: expiry subtracts whatever the bucket holds, keeping both in step
+            bucket.incrementAndGet(cell);
+            window.incrementAndGet(cell);
+        }
+    }
+
+    int estimate(long item, long now) {
+        advance(now);
+        int estimate = Integer.MAX_VALUE;
+        for (int row = 0; row < DEPTH; row++) {
+            estimate = Math.min(estimate, window.get(cell(item, row)));
+        }
+        return Math.max(estimate, 0);
+    }
+
+    // Expires every bucket that fell out of the window since the last call
+    private void advance(long now) {
+        long epoch = now / bucketMillis;
+        if (epoch <= currentEpoch) {
+            return;
+        }
+        synchronized (this) {
+            if (epoch <= currentEpoch) {
+                return;
+            }
+            long steps = Math.min(epoch - currentEpoch, bucketCount);
+            for (long step = 1; step <= steps; step++) {
+                AtomicIntegerArray expiring = buckets[(int) ((currentEpoch + step) % bucketCount)];
+                for (int cell = 0; cell < expiring.length(); cell++) {
+                    int count = expiring.getAndSet(cell, 0);
+                    if (count != 0) {
+                        window.addAndGet(cell, -count);
+                    }
+                }
+            }
+            currentEpoch = epoch;
+        }
+    }
+
+    private int cell(long item, int row) {
+        long h = (item + 1) * SEEDS[row];
+        h ^= h >>> 31;
+        return row * width + (int) ((h & Long.MAX_VALUE) % width);
+    }
+}
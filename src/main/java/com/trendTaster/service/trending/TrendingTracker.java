@@ -0,0 +1,92 @@
+package com.trendTaster.service.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Sliding-window view counts per trending window. Each window keeps a bounded candidate set
+// of heavy hitters; a periodic refresh ranks them and publishes the top list, so a trending
+// query only copies at most topSize precomputed entries.
+@Component
+public class TrendingTracker {
+
+    private final int topSize;
+    private final int maxCandidates;
+    private final Map<TrendingWindow, WindowState> windows = new EnumMap<>(TrendingWindow.class);
+
+    public TrendingTracker(@Value("${product.trending.top-size:100}") int topSize,
+                           @Value("${product.trending.sketch-width:2048}") int sketchWidth) {
+        this.topSize = topSize;
+        this.maxCandidates = topSize * 8;
+        long now = System.currentTimeMillis();
+        for (TrendingWindow window : TrendingWindow.values()) {
+            windows.put(window, new WindowState(new SlidingWindowSketch(window, sketchWidth, now)));
+        }
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class TrendingItem {
+        private final Long productId;
+        private final int views;
+    }
+
+    private static final class WindowState {
+        private final SlidingWindowSketch sketch;
+        private final Set<Long> candidates = ConcurrentHashMap.newKeySet();
+        private volatile List<TrendingItem> top = List.of();
+        // Smallest count on the published list; new candidates must beat it once the set is full
+        private volatile int admissionThreshold;
+
+        WindowState(SlidingWindowSketch sketch) {
+            this.sketch = sketch;
+        }
+    }
+
+    public void record(Long productId) {
+        long now = System.currentTimeMillis();
+        for (WindowState state : windows.values()) {
+            state.sketch.add(productId, now);
+            if (state.candidates.size() < maxCandidates
+                    || state.sketch.estimate(productId, now) > state.admissionThreshold) {
+                state.candidates.add(productId);
+            }
+        }
+    }
+
+    public List<TrendingItem> getTop(TrendingWindow window, int size) {
+        List<TrendingItem> top = windows.get(window).top;
+        return top.size() > size ? top.subList(0, size) : top;
+    }
+
+    @Scheduled(fixedDelayString = "${product.trending.refresh-interval-ms:10000}")
+    public void refresh() {
+        long now = System.currentTimeMillis();
+        for (WindowState state : windows.values()) {
+            List<TrendingItem> ranked = state.candidates.stream()
+                    .map(id -> new TrendingItem(id, state.sketch.estimate(id, now)))
+                    .filter(item -> item.getViews() > 0)
+                    .sorted(Comparator.comparingInt(TrendingItem::getViews).reversed())
+                    .toList();
+
+            List<TrendingItem> top = List.copyOf(ranked.subList(0, Math.min(topSize, ranked.size())));
+            state.top = top;
+            state.admissionThreshold = top.size() < topSize ? 0 : top.get(top.size() - 1).getViews();
+
+            // Keep the strongest half so later climbers still have room to be admitted
+            if (state.candidates.size() > maxCandidates / 2) {
+                state.candidates.clear();
+                ranked.stream().limit(maxCandidates / 2).forEach(item -> state.candidates.add(item.getProductId()));
+            }
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.trendTaster.service.trending;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+
+@Getter
+@RequiredArgsConstructor
+public enum TrendingWindow {
+    ONE_HOUR("1h", 60, Duration.ofMinutes(1)),
+    ONE_DAY("24h", 24, Duration.ofHours(1)),
+    SEVEN_DAYS("7d", 168, Duration.ofHours(1));
+
+    private final String code;
+    private final int bucketCount;
+    private final Duration bucketLength;
+
+    public static TrendingWindow fromCode(String code) {
+        for (TrendingWindow window : values()) {
+            if (window.code.equals(code)) {
+                return window;
+            }
+        }
+        throw new IllegalArgumentException("지원하지 않는 기간입니다 (1h, 24h, 7d)");
+    }
+}
@@ -0,0 +1,92 @@
+package com.trendTaster.controller;
+
+import com.trendTaster.PostgresIntegrationTest;
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.ProductImage;
+import com.trendTaster.domain.User;
+import com.trendTaster.repository.ProductRepository;
+import com.trendTaster.repository.UserRepository;
+import com.trendTaster.service.catalog.CatalogIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// The database path of the product list, taken before the catalog index has loaded or when its load
+// failed: a count-free slice, a cached total and one batched image load, whatever the page size
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductListFallbackQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int PRODUCTS = 30;
+    private static final int IMAGES_PER_PRODUCT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // A mock answers every query with Optional.empty(), as an index that never loaded does
+    @MockBean
+    private CatalogIndex catalogIndex;
+
+    @BeforeAll
+    void seedCatalog() {
+        User submitter = userRepository.save(User.builder()
+                .username("list-fallback-count")
+                .email("list-fallback-count@example.com")
+                .password("not-a-real-hash")
+                .build());
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = Product.builder()
+                    .name("폴백 상품 " + i)
+                    .store("CU")
+                    .price(2000 + i * 100)
+                    .category("음료")
+                    .status(Product.ProductStatus.APPROVED)
+                    .submittedBy(submitter)
+                    .build();
+            for (int order = 0; order < IMAGES_PER_PRODUCT; order++) {
+                product.addImage(ProductImage.builder()
+                        .imageUrl("https://example.com/fallback-" + i + "-" + order + ".webp")
+                        .displayOrder(order)
+                        .build());
+            }
+            productRepository.save(product);
+        }
+    }
+
+    @Test
+    void fallbackRunsSameStatementsForAnyPageSize() throws Exception {
+        // The first page turn for a filter combination also runs the COUNT behind the cached total
+        long cold = countStatements(() -> mockMvc.perform(get("/api/products").param("stores", "CU").param("size", "1"))
+                .andExpect(status().isOk()));
+
+        List<Long> counts = new ArrayList<>();
+        for (int size : new int[]{1, 5, 20}) {
+            counts.add(countStatements(() -> mockMvc.perform(get("/api/products")
+                            .param("stores", "CU").param("size", String.valueOf(size)))
+                    .andExpect(status().isOk())));
+        }
+
+        assertThat(counts).containsOnly(counts.get(0));
+        assertThat(cold).isEqualTo(counts.get(0) + 1);
+        // Matches the @QueryBudget on ProductController.getProducts
+        assertThat(cold).isLessThanOrEqualTo(5);
+    }
+}
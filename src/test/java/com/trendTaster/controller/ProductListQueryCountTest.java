@@ -0,0 +1,100 @@
+package com.trendTaster.controller;
+
+import com.trendTaster.PostgresIntegrationTest;
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.ProductImage;
+import com.trendTaster.domain.User;
+import com.trendTaster.repository.ProductRepository;
+import com.trendTaster.repository.UserRepository;
+import com.trendTaster.service.ProductService;
+import com.trendTaster.service.catalog.CatalogIndex;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+// Product lists must cost a fixed number of statements, not one or two more per row (N+1)
+@AutoConfigureMockMvc
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class ProductListQueryCountTest extends PostgresIntegrationTest {
+
+    private static final int PRODUCTS = 30;
+    private static final int IMAGES_PER_PRODUCT = 2;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private CatalogIndex catalogIndex;
+
+    @BeforeAll
+    void seedCatalog() {
+        User submitter = userRepository.save(User.builder()
+                .username("list-query-count")
+                .email("list-query-count@example.com")
+                .password("not-a-real-hash")
+                .build());
+
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product.ProductStatus status = i % 3 == 0 ? Product.ProductStatus.PENDING : Product.ProductStatus.APPROVED;
+            Product product = Product.builder()
+                    .name("테스트 상품 " + i)
+                    .store("GS25")
+                    .price(1000 + i * 100)
+                    .category("과자")
+                    .status(status)
+                    .submittedBy(submitter)
+                    .build();
+            for (int order = 0; order < IMAGES_PER_PRODUCT; order++) {
+                product.addImage(ProductImage.builder()
+                        .imageUrl("https://example.com/" + i + "-" + order + ".webp")
+                        .displayOrder(order)
+                        .build());
+            }
+            productRepository.save(product);
+        }
+
+        // Rows were inserted behind the index's back; pick them up like a fresh start would
+        catalogIndex.load();
+    }
+
+    @Test
+    void listEndpointRunsSameStatementsForAnyPageSize() throws Exception {
+        List<Long> counts = new ArrayList<>();
+        for (int size : new int[]{1, 5, 20}) {
+            counts.add(countStatements(() -> mockMvc.perform(get("/api/products").param("size", String.valueOf(size)))
+                    .andExpect(status().isOk())));
+        }
+
+        assertThat(counts).containsOnly(counts.get(0));
+        // Matches the @QueryBudget on ProductController.getProducts
+        assertThat(counts.get(0)).isLessThanOrEqualTo(5);
+    }
+
+    @Test
+    void pendingSubmissionsLoadSubmittersAndImagesInBulk() throws Exception {
+        long statements = countStatements(() ->
+                assertThat(productService.getPendingSubmissions()).hasSize(PRODUCTS / 3));
+
+        // Products with submitters in one query, all their images in a second
+        assertThat(statements).isLessThanOrEqualTo(2);
+    }
+}
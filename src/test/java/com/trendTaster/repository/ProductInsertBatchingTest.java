@@ -0,0 +1,65 @@
+package com.trendTaster.repository;
+
+import com.trendTaster.PostgresIntegrationTest;
+import com.trendTaster.domain.Product;
+import com.trendTaster.domain.User;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// Sequence ids let Hibernate group inserts into JDBC batches of hibernate.jdbc.batch_size (50);
+// IDENTITY ids would force one round trip per row to read the generated key back
+class ProductInsertBatchingTest extends PostgresIntegrationTest {
+
+    private static final int PRODUCTS = 120;
+    private static final int BATCH_SIZE = 50;
+    private static final int ALLOCATION_SIZE = 50;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void insertsAreBatchedAndIdsComeFromPooledSequence() throws Exception {
+        User submitter = userRepository.save(User.builder()
+                .username("insert-batching")
+                .email("insert-batching@example.com")
+                .password("not-a-real-hash")
+                .build());
+
+        long sequenceBefore = sequenceCalls();
+        long statements = countStatements(() -> transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < PRODUCTS; i++) {
+                productRepository.save(Product.builder()
+                        .name("배치 상품 " + i)
+                        .store("GS25")
+                        .price(1000 + i)
+                        .category("과자")
+                        .submittedBy(submitter)
+                        .build());
+            }
+        }));
+        long sequenceRoundTrips = sequenceCalls() - sequenceBefore;
+
+        // Pooled optimizer: one nextval per block of 50 ids, plus one on the sequence's very first use
+        assertThat(sequenceRoundTrips).isLessThanOrEqualTo((PRODUCTS + ALLOCATION_SIZE - 1) / ALLOCATION_SIZE + 1);
+        assertThat(statements - sequenceRoundTrips).isEqualTo((PRODUCTS + BATCH_SIZE - 1) / BATCH_SIZE);
+    }
+
+    // nextval calls made on products_seq so far; the sequence advances by the allocation size per call
+    private long sequenceCalls() {
+        return jdbcTemplate.queryForObject("SELECT last_value, is_called FROM products_seq", (rs, rowNum) ->
+                rs.getBoolean("is_called") ? (rs.getLong("last_value") - 1) / ALLOCATION_SIZE + 1 : 0);
+    }
+}